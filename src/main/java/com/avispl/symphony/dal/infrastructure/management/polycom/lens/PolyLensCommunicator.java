@@ -9,39 +9,54 @@ import java.net.ConnectException;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
-import java.text.SimpleDateFormat;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
-import java.util.TimeZone;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import org.apache.hc.client5.http.protocol.HttpClientContext;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.util.CollectionUtils;
+import org.springframework.web.client.RestTemplate;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import javax.net.ssl.HttpsURLConnection;
-import javax.net.ssl.SSLContext;
-import javax.net.ssl.TrustManager;
-import javax.net.ssl.X509TrustManager;
 import javax.security.auth.login.FailedLoginException;
 
 import com.avispl.symphony.api.dal.control.Controller;
@@ -54,19 +69,35 @@ import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
 import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
 import com.avispl.symphony.api.dal.monitor.Monitorable;
 import com.avispl.symphony.api.dal.monitor.aggregator.Aggregator;
-import com.avispl.symphony.dal.aggregator.parser.AggregatedDeviceProcessor;
 import com.avispl.symphony.dal.aggregator.parser.PropertiesMapping;
 import com.avispl.symphony.dal.aggregator.parser.PropertiesMappingParser;
 import com.avispl.symphony.dal.communicator.RestCommunicator;
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.common.ApiTokenManager;
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.common.BulkRebootMutation;
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.common.CompactPropertyMap;
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.common.CompiledDeviceMapper;
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.common.DeviceCacheStore;
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.common.DeviceSearchPageReader;
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.common.DeviceSnapshot;
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.common.GraphQLRequestTemplate;
 import com.avispl.symphony.dal.infrastructure.management.polycom.lens.common.PolyLensAggregatedMetric;
 import com.avispl.symphony.dal.infrastructure.management.polycom.lens.common.PolyLensConstant;
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.common.PolyLensFieldProfile;
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.common.PolyLensFieldSelection;
 import com.avispl.symphony.dal.infrastructure.management.polycom.lens.common.PolyLensFilteringMetric;
 import com.avispl.symphony.dal.infrastructure.management.polycom.lens.common.PolyLensProperties;
-import com.avispl.symphony.dal.infrastructure.management.polycom.lens.common.PolyLensQueries;
 import com.avispl.symphony.dal.infrastructure.management.polycom.lens.common.PolyLensSystemInfoMetric;
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.common.PropertySchema;
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.common.QueryCostRateLimiter;
 import com.avispl.symphony.dal.infrastructure.management.polycom.lens.common.Util;
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.dto.ApiToken;
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.dto.BulkRebootResult;
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.dto.CachedAggregatedDevice;
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.dto.DeviceCache;
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.dto.DeviceSearchPage;
 import com.avispl.symphony.dal.infrastructure.management.polycom.lens.dto.Entitlement;
 import com.avispl.symphony.dal.infrastructure.management.polycom.lens.dto.LinkedDevice;
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.dto.system.QueryCost;
 import com.avispl.symphony.dal.infrastructure.management.polycom.lens.dto.system.SystemInformation;
 import com.avispl.symphony.dal.util.StringUtils;
 
@@ -139,86 +170,116 @@ import com.avispl.symphony.dal.util.StringUtils;
  */
 public class PolyLensCommunicator extends RestCommunicator implements Aggregator, Monitorable, Controller {
 	/**
-	 * Process that is running constantly and triggers collecting data from PoLy Lens API endpoints, based on the given timeouts and thresholds.
+	 * Process that triggers collecting data from PoLy Lens API endpoints, based on the given timeouts and thresholds.
+	 * Every cycle is scheduled on a single thread scheduler at {@link #nextDevicesCollectionIterationTimestamp}, and
+	 * {@link #wakeUp()} brings the next cycle forward when the timestamp is reset. While the aggregator is paused no cycle is scheduled at all,
+	 * the loader stays idle until {@link #retrieveMultipleStatistics()} wakes it up again.
 	 *
 	 * @author Harry
 	 * @since 1.0.0
 	 */
 	class PolyLensDataLoader implements Runnable {
+		private final ScheduledExecutorService scheduler;
 		private volatile boolean inProgress;
-		private volatile int threadIndex = 0;
+		private ScheduledFuture<?> nextCycle;
+		private boolean running;
 
-		public PolyLensDataLoader() {
+		/**
+		 * PolyLensDataLoader instantiation
+		 *
+		 * @param scheduler scheduler that runs the cycles
+		 */
+		public PolyLensDataLoader(ScheduledExecutorService scheduler) {
+			this.scheduler = scheduler;
 			inProgress = true;
 		}
 
 		@Override
 		public void run() {
-			loop:
-			while (inProgress) {
-				try {
-					TimeUnit.MILLISECONDS.sleep(500);
-				} catch (InterruptedException e) {
-					logger.warn("Startup idle period is interrupted.", e);
-				}
-
-				if (!inProgress) {
-					break loop;
-				}
-
+			synchronized (this) {
+				nextCycle = null;
+				running = true;
+			}
+			try {
 				// next line will determine whether Poly Lens monitoring was paused
 				updateAggregatorStatus();
-				if (devicePaused) {
-					continue loop;
+				if (!inProgress || devicePaused || nextDevicesCollectionIterationTimestamp > System.currentTimeMillis()) {
+					return;
 				}
-				long currentTimestamp = System.currentTimeMillis();
 				long startCycle = System.currentTimeMillis();
 				if (logger.isDebugEnabled()) {
 					logger.debug("Fetching Poly Lens devices details.");
 				}
-				
-				if (threadIndex < threadCount && nextDevicesCollectionIterationTimestamp <= currentTimestamp) {
-					threadIndex++;
-					populateDeviceDetails();
-					if (PolyLensConstant.NULL.equals(nextToken)) {
-						threadIndex = threadCount;
-					}
-				}
+
+				populateDeviceDetails(this);
 
 				if (!inProgress) {
-					break loop;
+					return;
 				}
 
-				while (nextDevicesCollectionIterationTimestamp > System.currentTimeMillis()) {
-					try {
-						TimeUnit.MILLISECONDS.sleep(1000);
-					} catch (InterruptedException e) {
-						logger.warn("Idle period before new monitoring cycle is interrupted.", e);
-					}
-				}
-				if (threadIndex == threadCount) {
-					threadIndex = 0;
-					try {
-						nextDevicesCollectionIterationTimestamp = System.currentTimeMillis() + (getMonitoringRate() * 60000L);
-					} catch (NoSuchMethodError nsme) {
-						nextDevicesCollectionIterationTimestamp = System.currentTimeMillis() + 60000L;
-						logger.warn("Unsupported feature: getMonitoringRate isn't available on current Cloud Connector version.", nsme);
-					}
-					lastMonitoringCycleDuration = Math.max((System.currentTimeMillis() - startCycle) / 1000, 1L);
+				try {
+					nextDevicesCollectionIterationTimestamp = System.currentTimeMillis() + (getMonitoringRate() * 60000L);
+				} catch (NoSuchMethodError nsme) {
+					nextDevicesCollectionIterationTimestamp = System.currentTimeMillis() + 60000L;
+					logger.warn("Unsupported feature: getMonitoringRate isn't available on current Cloud Connector version.", nsme);
 				}
+				lastMonitoringCycleDuration = Math.max((System.currentTimeMillis() - startCycle) / 1000, 1L);
 
 				if (logger.isDebugEnabled()) {
 					logger.debug("Finished collecting devices statistics cycle at " + new Date());
 				}
+			} catch (Exception e) {
+				logger.error("Error while collecting devices statistics", e);
+			} finally {
+				synchronized (this) {
+					running = false;
+				}
+				if (!devicePaused) {
+					wakeUp();
+				}
+			}
+		}
+
+		/**
+		 * Schedules the next cycle at {@link #nextDevicesCollectionIterationTimestamp}, unless a cycle is running
+		 * or an earlier cycle is already scheduled. The running cycle schedules the next one when it ends.
+		 */
+		public synchronized void wakeUp() {
+			if (!inProgress || running || scheduler.isShutdown()) {
+				return;
+			}
+			long delay = Math.max(nextDevicesCollectionIterationTimestamp - System.currentTimeMillis(), 0L);
+			if (nextCycle != null) {
+				if (nextCycle.getDelay(TimeUnit.MILLISECONDS) <= delay) {
+					return;
+				}
+				nextCycle.cancel(false);
 			}
-			// Finished collecting
+			try {
+				nextCycle = scheduler.schedule(this, delay, TimeUnit.MILLISECONDS);
+			} catch (RejectedExecutionException e) {
+				nextCycle = null;
+			}
+		}
+
+		/**
+		 * Retrieves {@link #inProgress}
+		 *
+		 * @return value of {@link #inProgress}
+		 */
+		public boolean isInProgress() {
+			return inProgress;
 		}
 
 		/**
 		 * Triggers main loop to stop
 		 */
-		public void stop() {
+		public synchronized void stop() {
 			inProgress = false;
+			if (nextCycle != null) {
+				nextCycle.cancel(false);
+				nextCycle = null;
+			}
 		}
 	}
 
@@ -243,16 +304,92 @@ public class PolyLensCommunicator extends RestCommunicator implements Aggregator
 	private String filterExcludeRoomName;
 
 	/**
-	 * number of devices obtained in 1 request
+	 * serialized filter built from the filter properties, null until built or once a filter property changes
+	 */
+	private volatile byte[] filteringVariable;
+
+	/**
+	 * Lock guarding the build of {@link #filteringVariable} and its invalidation by the filter properties setters,
+	 * so that a filter built from the previous values never replaces a newer invalidation
+	 */
+	private final ReentrantLock filteringLock = new ReentrantLock();
+
+	/**
+	 * refresh only the devices whose etag changed since the previous cycle, the others keep their cached details
+	 */
+	private boolean incrementalRefresh;
+
+	/**
+	 * interval (in seconds) between two refreshes of the full device details, 0 to refresh them every cycle.
+	 * In between, only connected, callStatus and lastDetected are polled and merged into the cached devices.
+	 */
+	private int coldRefreshInterval;
+
+	/**
+	 * Timestamp of the last refresh of the full device details
+	 */
+	private volatile long coldRefreshTimestamp;
+
+	/**
+	 * number of devices rebooted by a single mutation when several devices are rebooted at once
+	 */
+	private int rebootBatchSize = PolyLensConstant.DEFAULT_REBOOT_BATCH_SIZE;
+
+	/**
+	 * number of reboot mutations sent concurrently when several devices are rebooted at once
+	 */
+	private int rebootConcurrency = PolyLensConstant.DEFAULT_REBOOT_CONCURRENCY;
+
+	/**
+	 * Result of the last bulk reboot, null until several devices are rebooted at once
+	 */
+	private volatile BulkRebootResult lastBulkReboot;
+
+	/**
+	 * directory of the device cache file, the device cache is not written to disk if not set
 	 */
-	private final int pageSize = PolyLensConstant.MAXIMUM_NUMBER_OF_DEVICES;
+	private String deviceCacheDirectory;
 
 	/**
-	 * A private final ReentrantLock instance used to provide exclusive access to a shared resource
-	 * that can be accessed by multiple threads concurrently. This lock allows multiple reentrant
-	 * locks on the same shared resource by the same thread.
+	 * Store of the device cache file, restored on init and written after every completed cycle
 	 */
-	private final ReentrantLock reentrantLock = new ReentrantLock();
+	private volatile DeviceCacheStore deviceCacheStore;
+
+	/**
+	 * profile of the device fields requested from Poly Lens: Minimal, Standard or Full
+	 */
+	private String fieldProfile = PolyLensConstant.FIELD_PROFILE_FULL;
+
+	/**
+	 * comma separated names of the device properties to request, overrides {@link #fieldProfile} when set
+	 */
+	private String includedProperties;
+
+	/**
+	 * metrics selected by {@link #fieldProfile} or {@link #includedProperties}, with the deviceSearch request selecting their fields
+	 */
+	private volatile PolyLensFieldSelection fieldSelection = PolyLensFieldSelection.FULL;
+
+	/**
+	 * number of devices obtained in 1 request, adjusted at the start of every cycle based on the remaining query cost
+	 */
+	private volatile int pageSize = PolyLensConstant.MAXIMUM_NUMBER_OF_DEVICES;
+
+	/**
+	 * delay (in milliseconds) between two page requests of the same cycle, adjusted together with {@link #pageSize}
+	 */
+	private volatile long pageRequestDelay;
+
+	/**
+	 * Manager of the Poly Lens API token, refreshes the token in the background ahead of its expiration
+	 * and makes concurrent callers noticing an expired or rejected token share a single token request.
+	 */
+	private final ApiTokenManager apiTokenManager = new ApiTokenManager(this::getToken);
+
+	/**
+	 * Rest template whose request factory creates an HttpClientContext per request, see {@link #obtainRestTemplate()}
+	 */
+	private volatile RestTemplate concurrentRestTemplate;
 
 	/**
 	 * A class-level constant instance of JsonNodeFactory, which is a factory class for creating JsonNode instances.
@@ -267,47 +404,43 @@ public class PolyLensCommunicator extends RestCommunicator implements Aggregator
 	 */
 	ObjectMapper objectMapper = new ObjectMapper();
 
-	/** Application configuration loaded from {@code version.properties}. */
-	private final Properties versionProperties = new Properties();
-	/** Device adapter instantiation timestamp. */
-	private final long adapterInitializationTimestamp = System.currentTimeMillis();
-	/** Duration (in milliseconds) of the last monitoring cycle. */
-	private Long lastMonitoringCycleDuration = 0L;
-
 	/**
-	 * An instance of the AggregatedDeviceProcessor class used to process and aggregate device-related data.
-	 */
-	private final AggregatedDeviceProcessor aggregatedDeviceProcessor;
-
-	/**
-	 * A private field that represents an instance of the PolyLensDataLoader class, which is responsible for loading device data for PolyLens.
+	 * Streaming reader of deviceSearch responses
 	 */
-	private PolyLensDataLoader deviceDataLoader;
+	private final DeviceSearchPageReader deviceSearchPageReader = new DeviceSearchPageReader(objectMapper);
 
 	/**
-	 * save time get token
+	 * Key schemas of the properties of the cached devices and of the monitoring properties reported to Symphony,
+	 * owned by this instance so that the property maps only grow with the property names of this instance
 	 */
-	private Long tokenExpire;
+	private final PropertySchema devicePropertySchema = new PropertySchema(
+			Arrays.stream(PolyLensAggregatedMetric.values()).map(PolyLensAggregatedMetric::getName).collect(Collectors.toList()));
+	private final PropertySchema monitoringPropertySchema = new PropertySchema(Collections.emptyList());
 
 	/**
-	 * time the token expires
+	 * Readers of the connections and entitlements of a device node, created once and shared by every device
 	 */
-	private Long expiresIn = 84600L * 1000;
+	private final ObjectReader linkedDevicesReader = objectMapper.readerFor(new TypeReference<List<LinkedDevice>>() {
+	});
+	private final ObjectReader entitlementsReader = objectMapper.readerFor(new TypeReference<List<Entitlement>>() {
+	});
 
-	/**
-	 * save nextToken for next request
-	 */
-	private String nextToken = PolyLensConstant.NULL;
+	/** Application configuration loaded from {@code version.properties}. */
+	private final Properties versionProperties = new Properties();
+	/** Device adapter instantiation timestamp. */
+	private final long adapterInitializationTimestamp = System.currentTimeMillis();
+	/** Duration (in milliseconds) of the last monitoring cycle. */
+	private volatile Long lastMonitoringCycleDuration = 0L;
 
 	/**
-	 * Number of threads used in a poly internal
+	 * Mapper of device nodes to aggregated devices, compiled from the model mapping yml
 	 */
-	private int threadCount;
+	private final CompiledDeviceMapper deviceMapper;
 
 	/**
-	 * Poly Lens API Token
+	 * A private field that represents an instance of the PolyLensDataLoader class, which is responsible for loading device data for PolyLens.
 	 */
-	private String apiToken;
+	private volatile PolyLensDataLoader deviceDataLoader;
 
 	/**
 	 * This parameter holds timestamp of when we need to stop performing API calls
@@ -322,7 +455,7 @@ public class PolyLensCommunicator extends RestCommunicator implements Aggregator
 	 * is set to currentTime + 30s, at the same time, calling {@link #retrieveMultipleStatistics()} and updating the
 	 * {@link #aggregatedDeviceList} resets it to the currentTime timestamp, which will re-activate data collection.
 	 */
-	private long nextDevicesCollectionIterationTimestamp;
+	private volatile long nextDevicesCollectionIterationTimestamp;
 
 	/**
 	 * Aggregator inactivity timeout. If the {@link PolyLensCommunicator#retrieveMultipleStatistics()}  method is not
@@ -340,14 +473,16 @@ public class PolyLensCommunicator extends RestCommunicator implements Aggregator
 	private volatile boolean devicePaused = true;
 
 	/**
-	 * Executor that runs all the async operations, that is posting and
+	 * Scheduler that runs the cycles of {@link #deviceDataLoader}
 	 */
-	private ExecutorService executorService;
+	private ScheduledExecutorService executorService;
 
 	/**
-	 * SSL certificate
+	 * Bounded worker pool that extracts devices from a fetched page while the loader requests the next one.
+	 * When all workers are busy and the queue is full, the loader thread processes the page itself,
+	 * which keeps the number of pages held in memory bounded.
 	 */
-	private SSLContext sslContext;
+	private ExecutorService pageProcessingExecutor;
 
 	/**
 	 * Update the status of the device.
@@ -367,19 +502,238 @@ public class PolyLensCommunicator extends RestCommunicator implements Aggregator
 	}
 
 	/**
-	 * List of aggregated device
+	 * List of aggregated device, fully populated with monitoring and controlling properties
 	 */
 	private final Map<String, AggregatedDevice> aggregatedDeviceList = new ConcurrentHashMap<>();
 
 	/**
-	 * List of cached aggregated device
+	 * List of cached aggregated device, as extracted from Poly Lens responses
 	 */
-	private final Map<String, AggregatedDevice> cachedAggregatedDeviceList = new ConcurrentHashMap<>();
+	private final Map<String, CachedAggregatedDevice> cachedAggregatedDeviceList = new ConcurrentHashMap<>();
+
+	/**
+	 * Latest published snapshot of {@link #aggregatedDeviceList}, returned as is by {@link #retrieveMultipleStatistics()}
+	 */
+	private final AtomicReference<DeviceSnapshot> deviceSnapshot = new AtomicReference<>(DeviceSnapshot.EMPTY);
+
+	/**
+	 * Lock guarding the publication of {@link #deviceSnapshot}, so that a snapshot is never replaced by an older one
+	 */
+	private final ReentrantLock snapshotLock = new ReentrantLock();
+
+	/**
+	 * Whether {@link #aggregatedDeviceList} changed since the last published {@link #deviceSnapshot}
+	 */
+	private final AtomicBoolean deviceListModified = new AtomicBoolean();
+
+	/**
+	 * Number of pages processed during the running cycle, a snapshot is published every {@link PolyLensConstant#SNAPSHOT_PUBLISH_PAGE_INTERVAL} pages
+	 */
+	private final AtomicInteger processedPages = new AtomicInteger();
+
+	/**
+	 * Number of devices re-populated and of devices reused as is during the running cycle
+	 */
+	private final AtomicInteger changedDevices = new AtomicInteger();
+	private final AtomicInteger unchangedDevices = new AtomicInteger();
+
+	/**
+	 * Number of devices re-populated and of devices reused as is during the last completed cycle
+	 */
+	private volatile int lastCycleChangedDevices;
+	private volatile int lastCycleUnchangedDevices;
+
+	/**
+	 * Generation of the running cycle, every device listed by the cycle is stamped with it
+	 */
+	private volatile long deviceGeneration;
 
 	/**
 	 * List of System Response
 	 */
-	private SystemInformation systemInformation = new SystemInformation();
+	private volatile SystemInformation systemInformation = new SystemInformation();
+
+	/**
+	 * Timestamp of the last {@link #systemInformation} retrieval, 0 when it has to be retrieved again before use
+	 */
+	private volatile long systemInformationTimestamp;
+
+	/**
+	 * Interval (in seconds) after which {@link #systemInformation} is refreshed in the background
+	 */
+	private int systemInformationRefreshInterval = PolyLensConstant.DEFAULT_SYSTEM_INFORMATION_REFRESH_INTERVAL;
+
+	/**
+	 * Whether a background refresh of {@link #systemInformation} is in progress
+	 */
+	private final AtomicBoolean systemInformationRefreshing = new AtomicBoolean();
+
+	/**
+	 * Executor that refreshes {@link #systemInformation} in the background, created in {@link #internalInit()} and shut down in {@link #internalDestroy()}
+	 */
+	private volatile ExecutorService systemInformationExecutor;
+
+	/**
+	 * Executor that sends the mutations of bulk reboots, up to {@link #rebootConcurrency} at once,
+	 * created in {@link #internalInit()} and shut down in {@link #internalDestroy()}
+	 */
+	private volatile ExecutorService rebootExecutor;
+
+	/**
+	 * Token bucket that every GraphQL request goes through, keeps polling within the Poly Lens query cost budget
+	 */
+	private final QueryCostRateLimiter queryCostRateLimiter = new QueryCostRateLimiter();
+
+	/**
+	 * Query cost per requested device reported by Poly Lens for the last page of every deviceSearch query
+	 */
+	private final Map<PolyLensProperties, Double> pageCosts = new ConcurrentHashMap<>();
+
+	/**
+	 * Retrieves {@link #incrementalRefresh}
+	 *
+	 * @return value of {@link #incrementalRefresh}
+	 */
+	public boolean isIncrementalRefresh() {
+		return incrementalRefresh;
+	}
+
+	/**
+	 * Sets {@link #incrementalRefresh} value
+	 *
+	 * @param incrementalRefresh new value of {@link #incrementalRefresh}
+	 */
+	public void setIncrementalRefresh(boolean incrementalRefresh) {
+		this.incrementalRefresh = incrementalRefresh;
+	}
+
+	/**
+	 * Retrieves {@link #coldRefreshInterval}
+	 *
+	 * @return value of {@link #coldRefreshInterval}
+	 */
+	public int getColdRefreshInterval() {
+		return coldRefreshInterval;
+	}
+
+	/**
+	 * Sets {@link #coldRefreshInterval} value
+	 *
+	 * @param coldRefreshInterval new value of {@link #coldRefreshInterval}
+	 */
+	public void setColdRefreshInterval(int coldRefreshInterval) {
+		this.coldRefreshInterval = coldRefreshInterval;
+	}
+
+	/**
+	 * Retrieves {@link #rebootBatchSize}
+	 *
+	 * @return value of {@link #rebootBatchSize}
+	 */
+	public int getRebootBatchSize() {
+		return rebootBatchSize;
+	}
+
+	/**
+	 * Sets {@link #rebootBatchSize} value
+	 *
+	 * @param rebootBatchSize new value of {@link #rebootBatchSize}
+	 */
+	public void setRebootBatchSize(int rebootBatchSize) {
+		this.rebootBatchSize = rebootBatchSize;
+	}
+
+	/**
+	 * Retrieves {@link #rebootConcurrency}
+	 *
+	 * @return value of {@link #rebootConcurrency}
+	 */
+	public int getRebootConcurrency() {
+		return rebootConcurrency;
+	}
+
+	/**
+	 * Sets {@link #rebootConcurrency} value
+	 *
+	 * @param rebootConcurrency new value of {@link #rebootConcurrency}
+	 */
+	public void setRebootConcurrency(int rebootConcurrency) {
+		this.rebootConcurrency = rebootConcurrency;
+	}
+
+	/**
+	 * Retrieves {@link #deviceCacheDirectory}
+	 *
+	 * @return value of {@link #deviceCacheDirectory}
+	 */
+	public String getDeviceCacheDirectory() {
+		return deviceCacheDirectory;
+	}
+
+	/**
+	 * Sets {@link #deviceCacheDirectory} value
+	 *
+	 * @param deviceCacheDirectory new value of {@link #deviceCacheDirectory}
+	 */
+	public void setDeviceCacheDirectory(String deviceCacheDirectory) {
+		this.deviceCacheDirectory = deviceCacheDirectory;
+	}
+
+	/**
+	 * Retrieves {@link #fieldProfile}
+	 *
+	 * @return value of {@link #fieldProfile}
+	 */
+	public String getFieldProfile() {
+		return fieldProfile;
+	}
+
+	/**
+	 * Sets {@link #fieldProfile} value
+	 *
+	 * @param fieldProfile new value of {@link #fieldProfile}
+	 */
+	public void setFieldProfile(String fieldProfile) {
+		this.fieldProfile = fieldProfile;
+		updateFieldSelection();
+	}
+
+	/**
+	 * Retrieves {@link #includedProperties}
+	 *
+	 * @return value of {@link #includedProperties}
+	 */
+	public String getIncludedProperties() {
+		return includedProperties;
+	}
+
+	/**
+	 * Sets {@link #includedProperties} value
+	 *
+	 * @param includedProperties new value of {@link #includedProperties}
+	 */
+	public void setIncludedProperties(String includedProperties) {
+		this.includedProperties = includedProperties;
+		updateFieldSelection();
+	}
+
+	/**
+	 * Retrieves {@link #systemInformationRefreshInterval}
+	 *
+	 * @return value of {@link #systemInformationRefreshInterval}
+	 */
+	public int getSystemInformationRefreshInterval() {
+		return systemInformationRefreshInterval;
+	}
+
+	/**
+	 * Sets {@link #systemInformationRefreshInterval} value
+	 *
+	 * @param systemInformationRefreshInterval new value of {@link #systemInformationRefreshInterval}
+	 */
+	public void setSystemInformationRefreshInterval(int systemInformationRefreshInterval) {
+		this.systemInformationRefreshInterval = systemInformationRefreshInterval;
+	}
 
 	/**
 	 * Retrieves {@link #filterRoomName}
@@ -396,7 +750,16 @@ public class PolyLensCommunicator extends RestCommunicator implements Aggregator
 	 * @param filterRoomName new value of {@link #filterRoomName}
 	 */
 	public void setFilterRoomName(String filterRoomName) {
-		this.filterRoomName = filterRoomName;
+		filteringLock.lock();
+		try {
+			this.filterRoomName = filterRoomName;
+			this.filteringVariable = null;
+		} finally {
+			filteringLock.unlock();
+		}
+		this.systemInformationTimestamp = 0;
+		this.nextDevicesCollectionIterationTimestamp = 0;
+		wakeUpDeviceDataLoader();
 	}
 
 	/**
@@ -414,7 +777,16 @@ public class PolyLensCommunicator extends RestCommunicator implements Aggregator
 	 * @param filterSiteName new value of {@link #filterSiteName}
 	 */
 	public void setFilterSiteName(String filterSiteName) {
-		this.filterSiteName = filterSiteName;
+		filteringLock.lock();
+		try {
+			this.filterSiteName = filterSiteName;
+			this.filteringVariable = null;
+		} finally {
+			filteringLock.unlock();
+		}
+		this.systemInformationTimestamp = 0;
+		this.nextDevicesCollectionIterationTimestamp = 0;
+		wakeUpDeviceDataLoader();
 	}
 
 	/**
@@ -432,7 +804,16 @@ public class PolyLensCommunicator extends RestCommunicator implements Aggregator
 	 * @param filterModelName new value of {@link #filterModelName}
 	 */
 	public void setFilterModelName(String filterModelName) {
-		this.filterModelName = filterModelName;
+		filteringLock.lock();
+		try {
+			this.filterModelName = filterModelName;
+			this.filteringVariable = null;
+		} finally {
+			filteringLock.unlock();
+		}
+		this.systemInformationTimestamp = 0;
+		this.nextDevicesCollectionIterationTimestamp = 0;
+		wakeUpDeviceDataLoader();
 	}
 
 	/**
@@ -450,19 +831,34 @@ public class PolyLensCommunicator extends RestCommunicator implements Aggregator
 	 * @param filterExcludeRoomName new value of {@link #filterExcludeRoomName}
 	 */
 	public void setFilterExcludeRoomName(String filterExcludeRoomName) {
-		this.filterExcludeRoomName = filterExcludeRoomName;
+		filteringLock.lock();
+		try {
+			this.filterExcludeRoomName = filterExcludeRoomName;
+			this.filteringVariable = null;
+		} finally {
+			filteringLock.unlock();
+		}
+		this.systemInformationTimestamp = 0;
+		this.nextDevicesCollectionIterationTimestamp = 0;
+		wakeUpDeviceDataLoader();
 	}
 
 	/**
 	 * Build instance of Poly LensReflectCommunicator
-	 * Setup aggregated devices processor
+	 * Setup aggregated devices mapper
 	 *
 	 * @throws IOException if unable to locate mapping ymp file or properties file
 	 */
 	public PolyLensCommunicator() throws IOException {
 		Map<String, PropertiesMapping> mapping = new PropertiesMappingParser().loadYML(PolyLensConstant.MODEL_MAPPING_AGGREGATED_DEVICE, getClass());
-		aggregatedDeviceProcessor = new AggregatedDeviceProcessor(mapping);
+		deviceMapper = new CompiledDeviceMapper(mapping);
 		this.setTrustAllCertificates(true);
+		// keep persistent connections to Poly Lens in the adapter's own pool, so that pages and count queries reuse them
+		this.setMaxConnectionsPerRoute(PolyLensConstant.MAX_CONNECTIONS_PER_ROUTE);
+		this.setMaxConnectionsTotal(PolyLensConstant.MAX_CONNECTIONS_TOTAL);
+		this.setEvictExpiredConnections(true);
+		this.setEvictIdleConnections(true);
+		this.setConnectionsMaxIdleTime(PolyLensConstant.CONNECTIONS_MAX_IDLE_TIME);
 		versionProperties.load(this.getClass().getResourceAsStream("/version.properties"));
 	}
 
@@ -472,28 +868,21 @@ public class PolyLensCommunicator extends RestCommunicator implements Aggregator
 	 */
 	@Override
 	public List<Statistics> getMultipleStatistics() throws Exception {
-		reentrantLock.lock();
-		try {
-			if (!checkValidApiToken()) {
-				throw new ResourceNotReachableException("API Token cannot be null or empty, please enter valid API token in the password and username field.");
-			}
-			Map<String, String> statistics = new HashMap<>();
-			Map<String, String> dynamicStatistics = new HashMap<>();
-			ExtendedStatistics extendedStatistics = new ExtendedStatistics();
-			retrieveMetadata(statistics, dynamicStatistics);
-			retrieveSystemInfo();
-			populateSystemData(statistics);
-
-			threadCount = PolyLensConstant.ONE_THREAD;
-			if (systemInformation.getCountDevices() != null && systemInformation.getCountDevices() > pageSize) {
-				threadCount = PolyLensConstant.TWO_THREADS;
-			}
-			extendedStatistics.setStatistics(statistics);
-			extendedStatistics.setDynamicStatistics(dynamicStatistics);
-			return Collections.singletonList(extendedStatistics);
-		} finally {
-			reentrantLock.unlock();
+		if (!checkValidApiToken()) {
+			throw new ResourceNotReachableException("API Token cannot be null or empty, please enter valid API token in the password and username field.");
 		}
+		Map<String, String> statistics = new HashMap<>();
+		Map<String, String> dynamicStatistics = new HashMap<>();
+		ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+		retrieveMetadata(statistics, dynamicStatistics);
+		retrieveCachedSystemInfo();
+		populateSystemData(statistics);
+		populateQueryCostLimiterData(statistics);
+		populateBulkRebootData(statistics);
+
+		extendedStatistics.setStatistics(statistics);
+		extendedStatistics.setDynamicStatistics(dynamicStatistics);
+		return Collections.singletonList(extendedStatistics);
 	}
 
 	/**
@@ -502,23 +891,21 @@ public class PolyLensCommunicator extends RestCommunicator implements Aggregator
 	 */
 	@Override
 	public List<AggregatedDevice> retrieveMultipleStatistics() throws Exception {
-		if (systemInformation.getCountDevices() != null) {
+		SystemInformation information = systemInformation;
+		if (information != null && information.getCountDevices() != null) {
 			if (checkValidApiToken()) {
 				if (executorService == null) {
-					executorService = Executors.newFixedThreadPool(1);
-					executorService.submit(deviceDataLoader = new PolyLensDataLoader());
+					startDeviceDataLoader();
 				}
 				nextDevicesCollectionIterationTimestamp = System.currentTimeMillis();
 				updateValidRetrieveStatisticsTimestamp();
+				wakeUpDeviceDataLoader();
 			} else {
 				throw new FailedLoginException("Can't get token from client id and client secret");
 			}
-			if (cachedAggregatedDeviceList.isEmpty()) {
-				return Collections.emptyList();
-			}
-			return cloneAndPopulateAggregatedDeviceList();
 		}
-		return Collections.emptyList();
+		// devices restored from the device cache file are reported until the first cycle refreshes them
+		return deviceSnapshot.get().getDevices();
 	}
 
 	/**
@@ -526,7 +913,8 @@ public class PolyLensCommunicator extends RestCommunicator implements Aggregator
 	 */
 	@Override
 	public List<AggregatedDevice> retrieveMultipleStatistics(List<String> listDeviceId) throws Exception {
-		return retrieveMultipleStatistics().stream().filter(aggregatedDevice -> listDeviceId.contains(aggregatedDevice.getDeviceId())).collect(Collectors.toList());
+		retrieveMultipleStatistics();
+		return deviceSnapshot.get().getDevices(listDeviceId);
 	}
 
 	/**
@@ -537,31 +925,26 @@ public class PolyLensCommunicator extends RestCommunicator implements Aggregator
 	 */
 	@Override
 	public void controlProperty(ControllableProperty controllableProperty) {
-		reentrantLock.lock();
-		try {
-			String property = controllableProperty.getProperty();
-			String deviceId = controllableProperty.getDeviceId();
-			PolyLensProperties propertyItem = PolyLensProperties.getByName(property);
-			Optional<AggregatedDevice> aggregatedDevice = aggregatedDeviceList.values().stream().filter(item -> item.getDeviceId().equals(deviceId)).findFirst();
-			if (aggregatedDevice.isPresent()) {
-				switch (propertyItem) {
-					case REBOOT_DEVICE:
-						sendRequestToControlDevice(propertyItem, deviceId);
-						break;
-					default:
-						logger.debug(String.format("Property name %s doesn't support", propertyItem));
-				}
-			} else {
-				throw new IllegalArgumentException(String.format("Unable to control property: %s as the device does not exist.", property));
+		String property = controllableProperty.getProperty();
+		String deviceId = controllableProperty.getDeviceId();
+		PolyLensProperties propertyItem = PolyLensProperties.getByName(property);
+		if (deviceSnapshot.get().getDevice(deviceId) != null) {
+			switch (propertyItem) {
+				case REBOOT_DEVICE:
+					sendRequestToControlDevice(propertyItem, deviceId);
+					break;
+				default:
+					logger.debug(String.format("Property name %s doesn't support", propertyItem));
 			}
-		} finally {
-			reentrantLock.unlock();
+		} else {
+			throw new IllegalArgumentException(String.format("Unable to control property: %s as the device does not exist.", property));
 		}
 	}
 
 	/**
 	 * {@inheritDoc}
 	 * This method is recalled by Symphony to control a list of properties
+	 * Reboots of several devices are sent as batched mutations, concurrently, see {@link #rebootDevices(List)}
 	 *
 	 * @param controllableProperties This is the list of properties to be controlled
 	 */
@@ -570,7 +953,26 @@ public class PolyLensCommunicator extends RestCommunicator implements Aggregator
 		if (CollectionUtils.isEmpty(controllableProperties)) {
 			throw new IllegalArgumentException("ControllableProperties can not be null or empty");
 		}
+		DeviceSnapshot snapshot = deviceSnapshot.get();
+		Set<String> rebootDeviceIds = new LinkedHashSet<>();
+		List<ControllableProperty> otherProperties = new ArrayList<>();
 		for (ControllableProperty p : controllableProperties) {
+			if (PolyLensConstant.REBOOT_DEVICE.equals(p.getProperty()) && snapshot.getDevice(p.getDeviceId()) != null) {
+				rebootDeviceIds.add(p.getDeviceId());
+			} else {
+				otherProperties.add(p);
+			}
+		}
+		if (rebootDeviceIds.size() == 1) {
+			try {
+				sendRequestToControlDevice(PolyLensProperties.REBOOT_DEVICE, rebootDeviceIds.iterator().next());
+			} catch (Exception e) {
+				logger.error(String.format("Unable to control property %s", PolyLensConstant.REBOOT_DEVICE), e);
+			}
+		} else if (!rebootDeviceIds.isEmpty()) {
+			rebootDevices(new ArrayList<>(rebootDeviceIds));
+		}
+		for (ControllableProperty p : otherProperties) {
 			try {
 				controlProperty(p);
 			} catch (Exception e) {
@@ -622,271 +1024,861 @@ public class PolyLensCommunicator extends RestCommunicator implements Aggregator
 					return this.getPingTimeout();
 				}
 			}
-			return Math.max(1, Math.toIntExact(pingResultTotal / this.getPingAttempts()));
-		} else {
-			throw new IllegalStateException("Cannot use device class without calling init() first");
+			return Math.max(1, Math.toIntExact(pingResultTotal / this.getPingAttempts()));
+		} else {
+			throw new IllegalStateException("Cannot use device class without calling init() first");
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void authenticate() {
+		// Poly lens only require API token for each request.
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * set Bearer Token into Header of Request
+	 */
+	@Override
+	protected HttpHeaders putExtraRequestHeaders(HttpMethod httpMethod, String uri, HttpHeaders headers) {
+		headers.setBearerAuth(apiTokenManager.getCurrentToken());
+		return headers;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * The template shares the pooled HttpClient, but every request gets its own HttpClientContext.
+	 * The context kept by the communicator is not thread safe, and Poly Lens requests are sent concurrently
+	 * (system information refresh, device pages, bulk reboots). Poly Lens authenticates with the bearer token only,
+	 * so there is no cookie or authentication state to share between requests.
+	 * The request factory of the framework always hands out its own context, so it is replaced by a factory over the same HttpClient,
+	 * which keeps the connection settings and default request config of the client, with the request timeouts of the communicator set on it as well.
+	 * The interceptors and message converters stay on the template and are not affected.
+	 */
+	@Override
+	protected RestTemplate obtainRestTemplate() throws Exception {
+		RestTemplate restTemplate = super.obtainRestTemplate();
+		if (restTemplate != concurrentRestTemplate) {
+			synchronized (this) {
+				if (restTemplate != concurrentRestTemplate) {
+					HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(obtainHttpClient(false));
+					requestFactory.setConnectionRequestTimeout(getTimeout());
+					requestFactory.setReadTimeout(getTimeout());
+					requestFactory.setHttpContextFactory((method, uri) -> HttpClientContext.create());
+					restTemplate.setRequestFactory(requestFactory);
+					concurrentRestTemplate = restTemplate;
+				}
+			}
+		}
+		return restTemplate;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void internalInit() throws Exception {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Internal init is called.");
+		}
+		apiTokenManager.start();
+		startDeviceDataLoader();
+		super.internalInit();
+		restoreDeviceCache();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void internalDestroy() {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Internal destroy is called.");
+		}
+		if (deviceDataLoader != null) {
+			deviceDataLoader.stop();
+			deviceDataLoader = null;
+		}
+
+		if (executorService != null) {
+			executorService.shutdownNow();
+			executorService = null;
+		}
+		if (pageProcessingExecutor != null) {
+			pageProcessingExecutor.shutdownNow();
+			pageProcessingExecutor = null;
+		}
+		if (systemInformationExecutor != null) {
+			systemInformationExecutor.shutdownNow();
+			systemInformationExecutor = null;
+		}
+		if (rebootExecutor != null) {
+			rebootExecutor.shutdownNow();
+			rebootExecutor = null;
+		}
+		systemInformationRefreshing.set(false);
+		systemInformation = null;
+		systemInformationTimestamp = 0;
+		nextDevicesCollectionIterationTimestamp = 0;
+		aggregatedDeviceList.clear();
+		cachedAggregatedDeviceList.clear();
+		deviceSnapshot.set(DeviceSnapshot.EMPTY);
+		apiTokenManager.stop();
+		super.internalDestroy();
+	}
+
+	/**
+	 * Check API token validation
+	 * If there is no token or the token expired, we send a request to get a new token,
+	 * otherwise the token is kept valid by {@link #apiTokenManager} in the background
+	 *
+	 * @return boolean True if valid user information, and vice versa.
+	 * @throws throw an FailedLogin exception when token retrieval fails.
+	 */
+	private boolean checkValidApiToken() throws Exception {
+		if (StringUtils.isNullOrEmpty(getLogin()) || StringUtils.isNullOrEmpty(getPassword())) {
+			return false;
+		}
+		apiTokenManager.getToken();
+		return true;
+	}
+
+	/**
+	 * Retrieves metadata information and updates the provided statistics and dynamic map.
+	 *
+	 * @param stats the map where statistics will be stored
+	 * @param dynamicStatistics the map where dynamic statistics will be stored
+	 */
+	private void retrieveMetadata(Map<String, String> stats, Map<String, String> dynamicStatistics) {
+		try {
+			stats.put(PolyLensConstant.ADAPTER_VERSION, getDefaultValueForNullData(versionProperties.getProperty("adapter.version")));
+			stats.put(PolyLensConstant.ADAPTER_BUILD_DATE, getDefaultValueForNullData(versionProperties.getProperty("adapter.build.date")));
+			stats.put(PolyLensConstant.ADAPTER_UPTIME, Util.mapToUptime(adapterInitializationTimestamp));
+			stats.put(PolyLensConstant.ADAPTER_UPTIME_MIN, Util.mapToUptimeMin(adapterInitializationTimestamp));
+			try {
+				stats.put(PolyLensConstant.MONITORING_CYCLE_INTERVAL, String.valueOf(getMonitoringRate()));
+			} catch (NoSuchMethodError nsme) {
+				logger.warn("Unsupported feature: getMonitoringRate isn't available on current Cloud Connector version.", nsme);
+			}
+			dynamicStatistics.put(PolyLensConstant.LAST_MONITORING_CYCLE_DURATION, String.valueOf(lastMonitoringCycleDuration));
+			dynamicStatistics.put(PolyLensConstant.MONITORED_DEVICES_TOTAL, String.valueOf(aggregatedDeviceList.size()));
+			dynamicStatistics.put(PolyLensConstant.LAST_MONITORING_CYCLE_CHANGED_DEVICES, String.valueOf(lastCycleChangedDevices));
+			dynamicStatistics.put(PolyLensConstant.LAST_MONITORING_CYCLE_UNCHANGED_DEVICES, String.valueOf(lastCycleUnchangedDevices));
+		} catch (Exception e) {
+			logger.error("Failed to populate metadata information", e);
+		}
+	}
+
+	/**
+	 * populate system data from request
+	 *
+	 * @param statistics the stats are list of Statistics
+	 */
+	private void populateSystemData(Map<String, String> statistics) {
+		String queryCostGroup;
+		SystemInformation information = systemInformation;
+		for (PolyLensSystemInfoMetric property : PolyLensSystemInfoMetric.values()) {
+			queryCostGroup = PolyLensConstant.EMPTY;
+			if (property.isQueryCost()) {
+				queryCostGroup = PolyLensConstant.QUERY_COST_GROUP;
+			}
+			statistics.put(queryCostGroup.concat(property.getName()), getDefaultValueForNullData(information.getValueByMetricName(property)));
+		}
+	}
+
+	/**
+	 * populate state of {@link #queryCostRateLimiter}
+	 *
+	 * @param statistics the stats are list of Statistics
+	 */
+	private void populateQueryCostLimiterData(Map<String, String> statistics) {
+		statistics.put(PolyLensConstant.QUERY_COST_LIMITER_GROUP + PolyLensConstant.AVAILABLE_COST, queryCostRateLimiter.getAvailableCost());
+		statistics.put(PolyLensConstant.QUERY_COST_LIMITER_GROUP + PolyLensConstant.RESERVED_COST, queryCostRateLimiter.getReservedCost());
+		statistics.put(PolyLensConstant.QUERY_COST_LIMITER_GROUP + PolyLensConstant.WAITING_REQUESTS, String.valueOf(queryCostRateLimiter.getWaitingRequests()));
+		statistics.put(PolyLensConstant.QUERY_COST_LIMITER_GROUP + PolyLensConstant.THROTTLED_REQUESTS, String.valueOf(queryCostRateLimiter.getThrottledRequests()));
+		statistics.put(PolyLensConstant.QUERY_COST_LIMITER_GROUP + PolyLensConstant.REJECTED_REQUESTS, String.valueOf(queryCostRateLimiter.getRejectedRequests()));
+	}
+
+	/**
+	 * populate result of {@link #lastBulkReboot}
+	 *
+	 * @param statistics the stats are list of Statistics
+	 */
+	private void populateBulkRebootData(Map<String, String> statistics) {
+		BulkRebootResult result = lastBulkReboot;
+		if (result == null) {
+			return;
+		}
+		statistics.put(PolyLensConstant.BULK_REBOOT_GROUP + PolyLensConstant.REQUESTED_DEVICES, String.valueOf(result.getRequestedDevices()));
+		statistics.put(PolyLensConstant.BULK_REBOOT_GROUP + PolyLensConstant.REBOOTED_DEVICES, String.valueOf(result.getRebootedDevices()));
+		statistics.put(PolyLensConstant.BULK_REBOOT_GROUP + PolyLensConstant.FAILED_DEVICES, String.valueOf(result.getFailures().size()));
+		statistics.put(PolyLensConstant.BULK_REBOOT_GROUP + PolyLensConstant.BULK_REBOOT_DURATION, String.valueOf(result.getDuration()));
+	}
+
+	/**
+	 * Sends a GraphQL request to Poly Lens once its estimated cost is available in {@link #queryCostRateLimiter}
+	 * If the token is rejected, it is refreshed and the request is sent once more
+	 *
+	 * @param request type of the request, control requests have priority over monitoring requests
+	 * @param body body of the request
+	 * @param estimatedCost estimated query cost of the request
+	 * @param responseType type of the response
+	 * @return response of the request
+	 * @throws Exception if the budget is exhausted or the request fails
+	 */
+	private <T> T doGraphQLRequest(PolyLensProperties request, Object body, long estimatedCost, Class<T> responseType) throws Exception {
+		long timeout = request.isControl() ? PolyLensConstant.CONTROL_QUERY_COST_TIMEOUT : PolyLensConstant.MONITORING_QUERY_COST_TIMEOUT;
+		if (!queryCostRateLimiter.acquire(estimatedCost, request.isControl(), timeout)) {
+			throw new ResourceNotReachableException(String.format("Query cost budget is exhausted, %s request is not sent.", request.getName()));
+		}
+		String token = apiTokenManager.getCurrentToken();
+		try {
+			return this.doPost(PolyLensConstant.URI_POLY_LENS, body, responseType);
+		} catch (FailedLoginException e) {
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("API token is rejected, %s request is sent again with a new token.", request.getName()));
+			}
+			apiTokenManager.refresh(token);
+			return this.doPost(PolyLensConstant.URI_POLY_LENS, body, responseType);
+		}
+	}
+
+	/**
+	 * Get Token from Poly Lens
+	 *
+	 * @return new token and its lifetime
+	 * @throws throw an FailedLogin exception when token retrieval fails.
+	 */
+	private ApiToken getToken() throws Exception {
+		ApiToken token;
+		String body = String.format("{\"client_id\":\"%s\",\"client_secret\":\"%s\",\"grant_type\":\"%s\"}",
+				this.getLogin(), this.getPassword(), PolyLensConstant.GRANT_TYPE);
+		try {
+			String urlToken = !host.startsWith(PolyLensConstant.API) ? host :
+					PolyLensConstant.URL_LOGIN + host.substring(PolyLensConstant.API.length()) + PolyLensConstant.OAUTH_TOKEN;
+			JsonNode response = doPost(urlToken, body, JsonNode.class);
+			if (response.size() == 1) {
+				throw new IllegalArgumentException("ClientId and ClientSecret are not correct");
+			}
+			long expiresIn = response.get(PolyLensConstant.EXPIRES_IN).asLong();
+			// keep half an hour of margin, but never less than half of the token lifetime for short lived tokens
+			long lifetime = Math.max(expiresIn - PolyLensConstant.HALF_AN_HOUR, expiresIn / 2) * 1000;
+			token = new ApiToken(response.get(PolyLensConstant.ACCESS_TOKEN).asText(), lifetime);
+		} catch (Exception e) {
+			String message = String.format("Failed to retrieve an access token for account with from client id and client secret. Please check client id and client secret");
+			throw new FailedLoginException(message);
+		}
+		return token;
+	}
+
+	/**
+	 * Serves {@link #systemInformation} from memory.
+	 * The information is retrieved synchronously only when it is missing, invalidated by a filter change or far too old;
+	 * once older than {@link #systemInformationRefreshInterval} it is refreshed in the background while the cached value is returned.
+	 */
+	private void retrieveCachedSystemInfo() {
+		long age = System.currentTimeMillis() - systemInformationTimestamp;
+		long refreshInterval = Math.max(systemInformationRefreshInterval, 0) * 1000L;
+		SystemInformation information = systemInformation;
+		if (information == null || information.getCountDevices() == null || systemInformationTimestamp == 0
+				|| age > refreshInterval * PolyLensConstant.SYSTEM_INFORMATION_MAX_AGE_FACTOR) {
+			retrieveSystemInfo();
+			return;
+		}
+		ExecutorService executor = systemInformationExecutor;
+		if (executor != null && age > refreshInterval && systemInformationRefreshing.compareAndSet(false, true)) {
+			try {
+				executor.submit(() -> {
+					try {
+						retrieveSystemInfo();
+					} catch (Exception e) {
+						logger.error("Error while refreshing system information", e);
+					} finally {
+						systemInformationRefreshing.set(false);
+					}
+				});
+			} catch (RejectedExecutionException e) {
+				// the adapter is being destroyed
+				systemInformationRefreshing.set(false);
+			}
+		}
+	}
+
+	/**
+	 * Get system information of Poly Lens
+	 * Tenants, query cost and the number of devices matching the filters are retrieved with a single request,
+	 * the device count is an aliased deviceSearch that only selects pageInfo.totalCount.
+	 */
+	private void retrieveSystemInfo() {
+		try {
+			byte[] query = PolyLensProperties.SYSTEM_INFO.getTemplate().build(createVariableForFiltering(), pageSize, null);
+			JsonNode systemResponse = doGraphQLRequest(PolyLensProperties.SYSTEM_INFO, query, (long) PolyLensProperties.SYSTEM_INFO.getEstimatedCost(), JsonNode.class);
+			JsonNode data = systemResponse.get(PolyLensConstant.DATA);
+			SystemInformation information = objectMapper.treeToValue(data, SystemInformation.class);
+			information.setCountDevices(data.get(PolyLensConstant.DEVICE_COUNT).get(PolyLensConstant.PAGE_INFO).get(PolyLensConstant.TOTAL_COUNT).asInt());
+			systemInformation = information;
+			systemInformationTimestamp = System.currentTimeMillis();
+			queryCostRateLimiter.update(information.getQueryCost());
+		} catch (Exception e) {
+			throw new ResourceNotReachableException("Unable to retrieve system information.", e);
+		}
+	}
+
+	/**
+	 * Creates the scheduler, the page workers, the system information and reboot executors, and starts {@link #deviceDataLoader}.
+	 * The first cycle is only scheduled once {@link #retrieveMultipleStatistics()} is called.
+	 */
+	private void startDeviceDataLoader() {
+		pageProcessingExecutor = createPageProcessingExecutor();
+		systemInformationExecutor = Executors.newSingleThreadExecutor();
+		rebootExecutor = createRebootExecutor();
+		executorService = Executors.newSingleThreadScheduledExecutor();
+		deviceDataLoader = new PolyLensDataLoader(executorService);
+	}
+
+	/**
+	 * Brings the next cycle of {@link #deviceDataLoader} forward to {@link #nextDevicesCollectionIterationTimestamp}
+	 */
+	private void wakeUpDeviceDataLoader() {
+		PolyLensDataLoader dataLoader = deviceDataLoader;
+		if (dataLoader != null) {
+			dataLoader.wakeUp();
+		}
+	}
+
+	/**
+	 * Creates the bounded pool of named daemon threads that sends the mutations of bulk reboots.
+	 *
+	 * @return reboot executor
+	 */
+	private ExecutorService createRebootExecutor() {
+		AtomicInteger threadCount = new AtomicInteger();
+		return Executors.newFixedThreadPool(Math.max(rebootConcurrency, 1), runnable -> {
+			Thread thread = new Thread(runnable, PolyLensConstant.REBOOT_THREAD_NAME + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Creates the bounded worker pool used to extract devices from fetched pages.
+	 *
+	 * @return page processing executor
+	 */
+	private ExecutorService createPageProcessingExecutor() {
+		return new ThreadPoolExecutor(PolyLensConstant.PAGE_PROCESSING_THREADS, PolyLensConstant.PAGE_PROCESSING_THREADS, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(PolyLensConstant.PAGE_PROCESSING_QUEUE_SIZE), new ThreadPoolExecutor.CallerRunsPolicy());
+	}
+
+	/**
+	 * populate detail aggregated device
+	 * Walks the whole nextToken chain of deviceSearch within one cycle. Each fetched page is handed over to
+	 * {@link #pageProcessingExecutor} so that devices of the previous page are extracted while the next page is requested.
+	 * In incremental mode, a lightweight pass first retrieves id, etag, connected, callStatus and lastDetected of every device,
+	 * and the full details are only requested for the devices whose etag changed.
+	 * With a {@link #coldRefreshInterval}, the full details are only requested once the interval has elapsed: the cycles in between
+	 * run the lightweight pass alone, merge its fields into every cached device and request the full details of new devices only.
+	 * Devices whose content did not change are reused as is, only the changed ones are populated again and published.
+	 * Every device listed by the cycle is stamped with the cycle generation. Once the whole nextToken chain was walked and every page
+	 * was processed, the devices that were not listed (removed from Poly Lens or filtered out) are evicted.
+	 *
+	 * @param dataLoader loader that runs the cycle, used to stop paging as soon as the loader is stopped
+	 */
+	private void populateDeviceDetails(PolyLensDataLoader dataLoader) {
+		ExecutorService pageExecutor = pageProcessingExecutor;
+		if (pageExecutor == null) {
+			return;
+		}
+		long generation = ++deviceGeneration;
+		PolyLensFieldSelection selection = fieldSelection;
+		boolean sweepCompleted = false;
+		List<Future<?>> pageTasks = new ArrayList<>();
+		Consumer<byte[]> pageHandler = content -> pageTasks.add(pageExecutor.submit(() -> {
+			processDevicePage(content);
+			return null;
+		}));
+		calculatePagingPlan();
+		changedDevices.set(0);
+		unchangedDevices.set(0);
+		processedPages.set(0);
+		long cycleTimestamp = System.currentTimeMillis();
+		boolean coldRefreshDue = coldRefreshInterval <= 0 || cycleTimestamp - coldRefreshTimestamp >= coldRefreshInterval * 1000L;
+		try {
+			if ((incrementalRefresh || !coldRefreshDue) && !cachedAggregatedDeviceList.isEmpty()) {
+				List<String> changedDeviceIds = new ArrayList<>();
+				boolean compareEtag = incrementalRefresh;
+				boolean[] pagesRead = { true };
+				sweepCompleted = walkDevicePages(dataLoader, PolyLensProperties.DEVICE_CHANGES, createVariableForFiltering(), content -> {
+					try {
+						deviceSearchPageReader.readNodes(content, node -> collectChangedDevice(node, changedDeviceIds, compareEtag));
+					} catch (IOException e) {
+						pagesRead[0] = false;
+						logger.error("Error while reading device changes page", e);
+					}
+					publishPageProgress();
+				});
+				sweepCompleted &= pagesRead[0];
+				for (int i = 0; i < changedDeviceIds.size() && dataLoader.isInProgress(); i += pageSize) {
+					List<String> deviceIds = changedDeviceIds.subList(i, Math.min(i + pageSize, changedDeviceIds.size()));
+					walkDevicePages(dataLoader, PolyLensProperties.AGGREGATED_DEVICES, createVariableForFiltering(deviceIds), pageHandler);
+				}
+			} else {
+				sweepCompleted = walkDevicePages(dataLoader, PolyLensProperties.AGGREGATED_DEVICES, createVariableForFiltering(), pageHandler);
+			}
+			if (coldRefreshDue) {
+				coldRefreshTimestamp = cycleTimestamp;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return;
+		} catch (Exception e) {
+			sweepCompleted = false;
+			logger.error("Error while populate aggregated device", e);
+		}
+		for (Future<?> pageTask : pageTasks) {
+			try {
+				pageTask.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (Exception e) {
+				sweepCompleted = false;
+				logger.error("Error while extracting aggregated devices from page", e);
+			}
+		}
+		lastCycleChangedDevices = changedDevices.get();
+		lastCycleUnchangedDevices = unchangedDevices.get();
+		if (logger.isDebugEnabled()) {
+			logger.debug(String.format("Devices changed during the cycle: %s, unchanged: %s", lastCycleChangedDevices, lastCycleUnchangedDevices));
+		}
+		if (sweepCompleted && dataLoader.isInProgress()) {
+			evictStaleDevices(generation);
+		}
+		publishModifiedDeviceSnapshot();
+		// devices of a cycle that started before the field selection changed are not written under the new selection
+		if (dataLoader.isInProgress() && selection == fieldSelection) {
+			persistDeviceCache();
+		}
+	}
+
+	/**
+	 * Evicts the devices that were not listed by the cycle of the given generation from {@link #cachedAggregatedDeviceList}
+	 * and {@link #aggregatedDeviceList}, the snapshot published at the end of the cycle no longer contains them
+	 *
+	 * @param generation generation of the completed cycle
+	 */
+	private void evictStaleDevices(long generation) {
+		int evictedDevices = 0;
+		for (String id : aggregatedDeviceList.keySet()) {
+			CachedAggregatedDevice cachedDevice = cachedAggregatedDeviceList.get(id);
+			if (cachedDevice == null || cachedDevice.getGeneration() < generation) {
+				aggregatedDeviceList.remove(id);
+				evictedDevices++;
+			}
+		}
+		cachedAggregatedDeviceList.values().removeIf(cachedDevice -> cachedDevice.getGeneration() < generation);
+		if (evictedDevices > 0) {
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Evicted %s devices no longer listed by Poly Lens", evictedDevices));
+			}
+			deviceListModified.set(true);
 		}
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Restores {@link #cachedAggregatedDeviceList} from the device cache file and publishes the restored devices,
+	 * so that Symphony receives the whole fleet right away while the first cycle refreshes it.
+	 * The file is ignored if it was written for another account, filter or field selection.
+	 * The file holds the whole device inventory, so it is only used when {@link #deviceCacheDirectory} is set explicitly.
 	 */
-	@Override
-	protected void authenticate() {
-		// Poly lens only require API token for each request.
+	private void restoreDeviceCache() {
+		if (StringUtils.isNullOrEmpty(deviceCacheDirectory)) {
+			deviceCacheStore = null;
+			return;
+		}
+		try {
+			String directory = deviceCacheDirectory.trim();
+			String accountId = UUID.nameUUIDFromBytes((host + PolyLensConstant.COMMA + getLogin()).getBytes(StandardCharsets.UTF_8)).toString();
+			DeviceCacheStore store = new DeviceCacheStore(Paths.get(directory, PolyLensConstant.DEVICE_CACHE_FILE_PREFIX + accountId + PolyLensConstant.DEVICE_CACHE_FILE_EXTENSION),
+					devicePropertySchema);
+			deviceCacheStore = store;
+			DeviceCache deviceCache = store.read(createDeviceCacheKey());
+			if (deviceCache == null) {
+				return;
+			}
+			for (CachedAggregatedDevice device : deviceCache.getDevices()) {
+				String id = device.getDevice().getDeviceId();
+				if (StringUtils.isNotNullOrEmpty(id)) {
+					cachedAggregatedDeviceList.put(id, device);
+					aggregatedDeviceList.put(id, populateAggregatedDevice(device));
+				}
+			}
+			coldRefreshTimestamp = deviceCache.getRefreshTimestamp();
+			publishDeviceSnapshot();
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Restored %s devices from %s", cachedAggregatedDeviceList.size(), store.getFile()));
+			}
+		} catch (Exception e) {
+			logger.warn("Unable to restore the device cache, devices are retrieved from Poly Lens", e);
+		}
 	}
 
 	/**
-	 * {@inheritDoc}
-	 * set Bearer Token into Header of Request
+	 * Writes {@link #cachedAggregatedDeviceList} to the device cache file, the file is deleted once no device is left
+	 * so that a fleet that dropped to zero devices is not restored on the next start
 	 */
-	@Override
-	protected HttpHeaders putExtraRequestHeaders(HttpMethod httpMethod, String uri, HttpHeaders headers) {
-		headers.setBearerAuth(apiToken);
-		return headers;
+	private void persistDeviceCache() {
+		DeviceCacheStore store = deviceCacheStore;
+		if (store == null) {
+			return;
+		}
+		try {
+			if (cachedAggregatedDeviceList.isEmpty()) {
+				store.delete();
+				return;
+			}
+			store.write(createDeviceCacheKey(), coldRefreshTimestamp, cachedAggregatedDeviceList.values());
+		} catch (Exception e) {
+			logger.warn(String.format("Unable to write the device cache to %s", store.getFile()), e);
+		}
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Creates the key of the device cache file: the account, the filter and the selected fields the devices were retrieved with
+	 *
+	 * @return key of the device cache file
 	 */
-	@Override
-	protected void internalInit() throws Exception {
-		if (logger.isDebugEnabled()) {
-			logger.debug("Internal init is called.");
-		}
-		executorService = Executors.newFixedThreadPool(1);
-		executorService.submit(deviceDataLoader = new PolyLensDataLoader());
-
-		// Create a trust manager that trusts all certificates
-		TrustManager[] trustAllCerts = new TrustManager[] {
-				new X509TrustManager() {
-					public java.security.cert.X509Certificate[] getAcceptedIssuers() {
-						return new java.security.cert.X509Certificate[] {};
-					}
-
-					public void checkClientTrusted(java.security.cert.X509Certificate[] certs, String authType) {
-					}
-
-					public void checkServerTrusted(java.security.cert.X509Certificate[] certs, String authType) {
-					}
-				}
-		};
+	private String createDeviceCacheKey() {
+		return String.join(PolyLensConstant.COMMA, host, getLogin(), new String(createVariableForFiltering(), StandardCharsets.UTF_8),
+				fieldSelection.getMetrics().stream().map(PolyLensAggregatedMetric::name).collect(Collectors.joining(PolyLensConstant.SPACE)));
+	}
 
-		// Install the all-trusting trust manager
-		this.sslContext = SSLContext.getInstance(PolyLensConstant.SSL);
-		this.sslContext.init(null, trustAllCerts, new java.security.SecureRandom());
-		HttpsURLConnection.setDefaultSSLSocketFactory(sslContext.getSocketFactory());
-		super.internalInit();
+	/**
+	 * Requests every page of a deviceSearch query, following the nextToken chain
+	 *
+	 * @param dataLoader loader that runs the cycle, used to stop paging as soon as the loader is stopped
+	 * @param request deviceSearch query to send
+	 * @param filter serialized filter of the query
+	 * @param pageHandler handler of the raw content of every fetched page
+	 * @return true if the whole chain was walked, false if it stopped on an invalid page or because the loader was stopped
+	 * @throws Exception if a page request fails
+	 */
+	private boolean walkDevicePages(PolyLensDataLoader dataLoader, PolyLensProperties request, byte[] filter, Consumer<byte[]> pageHandler) throws Exception {
+		Set<String> requestedTokens = new HashSet<>();
+		int requestedPageSize = pageSize;
+		String nextToken = null;
+		do {
+			if (nextToken != null && pageRequestDelay > 0) {
+				TimeUnit.MILLISECONDS.sleep(pageRequestDelay);
+			}
+			byte[] content = fetchDevicePage(request, filter, nextToken);
+			if (content == null) {
+				return false;
+			}
+			DeviceSearchPage page = deviceSearchPageReader.readPageInfo(content);
+			updateQueryCost(page.getQueryCost());
+			updatePageCost(request, page.getQueryCost(), requestedPageSize);
+			if (!page.isFound()) {
+				logger.error(String.format("Error while populate aggregated device, the response has no deviceSearch result: %s", page.getErrors()));
+				return false;
+			}
+			nextToken = page.getNextToken();
+			pageHandler.accept(content);
+			if (StringUtils.isNullOrEmpty(nextToken) || PolyLensConstant.NULL.equals(nextToken)) {
+				return true;
+			}
+		} while (dataLoader.isInProgress() && requestedTokens.add(nextToken));
+		return false;
 	}
 
 	/**
-	 * {@inheritDoc}
-	 */
-	@Override
-	protected void internalDestroy() {
-		if (logger.isDebugEnabled()) {
-			logger.debug("Internal destroy is called.");
+	 * Compares a device of the lightweight deviceSearch pass with {@link #cachedAggregatedDeviceList}.
+	 * A cached device keeps its details, with connected, callStatus and lastDetected updated in place of a full refresh,
+	 * unless its etag is compared and did change. Otherwise the device is added to the list of devices to refresh.
+	 * A device whose connected, callStatus and lastDetected did not change is reused as is.
+	 *
+	 * @param node device node of the lightweight deviceSearch page
+	 * @param changedDeviceIds list of devices that need a full refresh
+	 * @param compareEtag whether a device whose etag changed needs a full refresh
+	 */
+	private void collectChangedDevice(JsonNode node, List<String> changedDeviceIds, boolean compareEtag) {
+		String id = node.path(PolyLensConstant.ID).asText(null);
+		if (StringUtils.isNullOrEmpty(id)) {
+			return;
 		}
-		if (deviceDataLoader != null) {
-			deviceDataLoader.stop();
-			deviceDataLoader = null;
+		String etag = node.path(PolyLensConstant.ETAG).asText(null);
+		CachedAggregatedDevice cachedDevice = cachedAggregatedDeviceList.get(id);
+		if (cachedDevice != null) {
+			cachedDevice.setGeneration(deviceGeneration);
 		}
-
-		if (executorService != null) {
-			executorService.shutdownNow();
-			executorService = null;
+		if (cachedDevice == null || cachedDevice.getDevice().getProperties() == null || compareEtag && (StringUtils.isNullOrEmpty(etag)
+				|| !etag.equals(cachedDevice.getDevice().getProperties().get(PolyLensAggregatedMetric.E_TAG.getName())))) {
+			changedDeviceIds.add(id);
+			return;
 		}
-		systemInformation = null;
-		nextDevicesCollectionIterationTimestamp = 0;
-		aggregatedDeviceList.clear();
-		cachedAggregatedDeviceList.clear();
-		super.internalDestroy();
+		Map<String, String> cachedProperties = cachedDevice.getDevice().getProperties();
+		JsonNode connected = node.path(PolyLensConstant.CONNECTED);
+		String lastDetected = node.path(PolyLensConstant.LAST_DETECTED_FIELD).asText(null);
+		String callStatus = node.path(PolyLensConstant.CALL_STATUS_FIELD).asText(null);
+		if ((!connected.isBoolean() || Boolean.valueOf(connected.asBoolean()).equals(cachedDevice.getDevice().getDeviceOnline()))
+				&& (StringUtils.isNullOrEmpty(lastDetected) || lastDetected.equals(cachedProperties.get(PolyLensAggregatedMetric.LAST_DETECTED.getName())))
+				&& (StringUtils.isNullOrEmpty(callStatus) || callStatus.equals(cachedProperties.get(PolyLensAggregatedMetric.CALL_STATUS.getName())))
+				&& aggregatedDeviceList.containsKey(id)) {
+			unchangedDevices.incrementAndGet();
+			return;
+		}
+		CachedAggregatedDevice device = cachedDevice.copy();
+		Map<String, String> properties = device.getDevice().getProperties();
+		if (connected.isBoolean()) {
+			device.getDevice().setDeviceOnline(connected.asBoolean());
+		}
+		if (StringUtils.isNotNullOrEmpty(lastDetected)) {
+			properties.put(PolyLensAggregatedMetric.LAST_DETECTED.getName(), lastDetected);
+		}
+		if (StringUtils.isNotNullOrEmpty(callStatus)) {
+			properties.put(PolyLensAggregatedMetric.CALL_STATUS.getName(), callStatus);
+		}
+		storeDevice(id, device);
 	}
 
 	/**
-	 * Check API token validation
-	 * If the token expires, we send a request to get a new token
+	 * Stores a device retrieved during the cycle into {@link #cachedAggregatedDeviceList} and {@link #aggregatedDeviceList}.
+	 * If the content hash of the device equals the one of the cached device, the device is not populated again
+	 * and the aggregated device already reported to Symphony is kept as is.
+	 * Either way, the device kept in the cache is stamped with the generation of the running cycle.
 	 *
-	 * @return boolean True if valid user information, and vice versa.
-	 * @throws throw an FailedLogin exception when token retrieval fails.
-	 */
-	private boolean checkValidApiToken() throws Exception {
-		if (StringUtils.isNullOrEmpty(getLogin()) || StringUtils.isNullOrEmpty(getPassword())) {
-			return false;
+	 * @param id id of the device
+	 * @param device device retrieved during the cycle
+	 */
+	private void storeDevice(String id, CachedAggregatedDevice device) {
+		CachedAggregatedDevice cachedDevice = cachedAggregatedDeviceList.get(id);
+		if (cachedDevice != null && cachedDevice.getContentHash() == device.getContentHash() && aggregatedDeviceList.containsKey(id)) {
+			cachedDevice.setGeneration(deviceGeneration);
+			unchangedDevices.incrementAndGet();
+			return;
 		}
-		if (StringUtils.isNullOrEmpty(apiToken) || System.currentTimeMillis() - tokenExpire >= expiresIn) {
-			apiToken = getToken();
+		device.setGeneration(deviceGeneration);
+		cachedAggregatedDeviceList.put(id, device);
+		aggregatedDeviceList.put(id, populateAggregatedDevice(device));
+		changedDevices.incrementAndGet();
+		deviceListModified.set(true);
+	}
+
+	/**
+	 * Chooses {@link #pageSize} and {@link #pageRequestDelay} for the upcoming cycle from the last known query cost.
+	 * While at least half of the cost budget is left, pages are requested at maximum size without delay.
+	 * Below that, the page size shrinks proportionally to the remaining budget and the page requests are spread
+	 * over the time left until the budget is reset, so that the cycle is not throttled halfway.
+	 */
+	private void calculatePagingPlan() {
+		int newPageSize = PolyLensConstant.MAXIMUM_NUMBER_OF_DEVICES;
+		long newPageRequestDelay = 0L;
+		SystemInformation information = systemInformation;
+		QueryCost queryCost = information == null ? null : information.getQueryCost();
+		if (queryCost != null && queryCost.getCostRemaining() != null && queryCost.getCostUsed() != null) {
+			int costRemaining = Math.max(queryCost.getCostRemaining(), 0);
+			int costBudget = costRemaining + Math.max(queryCost.getCostUsed(), 0);
+			double remainingRatio = costBudget == 0 ? 1d : (double) costRemaining / costBudget;
+			if (remainingRatio < PolyLensConstant.PLENTIFUL_QUERY_COST_RATIO) {
+				double scale = remainingRatio / PolyLensConstant.PLENTIFUL_QUERY_COST_RATIO;
+				newPageSize = Math.max(PolyLensConstant.MINIMUM_NUMBER_OF_DEVICES, (int) (PolyLensConstant.MAXIMUM_NUMBER_OF_DEVICES * scale));
+				Integer countDevices = information.getCountDevices();
+				Integer secondsToReset = queryCost.getSecondsToReset();
+				if (countDevices != null && secondsToReset != null && secondsToReset > 0) {
+					int numberOfPages = Math.max(1, (int) Math.ceil((double) countDevices / newPageSize));
+					newPageRequestDelay = Math.min(secondsToReset * 1000L / numberOfPages, PolyLensConstant.MAXIMUM_PAGE_REQUEST_DELAY);
+				}
+			}
 		}
-		return true;
+		if (logger.isDebugEnabled() && (newPageSize != pageSize || newPageRequestDelay != pageRequestDelay)) {
+			logger.debug(String.format("Adjusting device page size to %s and page request delay to %s ms", newPageSize, newPageRequestDelay));
+		}
+		pageSize = newPageSize;
+		pageRequestDelay = newPageRequestDelay;
 	}
 
 	/**
-	 * Retrieves metadata information and updates the provided statistics and dynamic map.
+	 * Fetches one page of deviceSearch
 	 *
-	 * @param stats the map where statistics will be stored
-	 * @param dynamicStatistics the map where dynamic statistics will be stored
-	 */
-	private void retrieveMetadata(Map<String, String> stats, Map<String, String> dynamicStatistics) {
-		try {
-			stats.put(PolyLensConstant.ADAPTER_VERSION, getDefaultValueForNullData(versionProperties.getProperty("adapter.version")));
-			stats.put(PolyLensConstant.ADAPTER_BUILD_DATE, getDefaultValueForNullData(versionProperties.getProperty("adapter.build.date")));
-			stats.put(PolyLensConstant.ADAPTER_UPTIME, Util.mapToUptime(adapterInitializationTimestamp));
-			stats.put(PolyLensConstant.ADAPTER_UPTIME_MIN, Util.mapToUptimeMin(adapterInitializationTimestamp));
-			try {
-				stats.put(PolyLensConstant.MONITORING_CYCLE_INTERVAL, String.valueOf(getMonitoringRate()));
-			} catch (NoSuchMethodError nsme) {
-				logger.warn("Unsupported feature: getMonitoringRate isn't available on current Cloud Connector version.", nsme);
-			}
-			dynamicStatistics.put(PolyLensConstant.LAST_MONITORING_CYCLE_DURATION, String.valueOf(lastMonitoringCycleDuration));
-			dynamicStatistics.put(PolyLensConstant.MONITORED_DEVICES_TOTAL, String.valueOf(aggregatedDeviceList.size()));
-		} catch (Exception e) {
-			logger.error("Failed to populate metadata information", e);
+	 * @param request deviceSearch query to send
+	 * @param filter serialized filter of the query
+	 * @param nextToken token of the page to fetch, null for the first page
+	 * @return raw content of the response, null if the response is empty
+	 * @throws Exception if the request fails
+	 */
+	private byte[] fetchDevicePage(PolyLensProperties request, byte[] filter, String nextToken) throws Exception {
+		GraphQLRequestTemplate template = request == PolyLensProperties.AGGREGATED_DEVICES ? fieldSelection.getTemplate() : request.getTemplate();
+		byte[] query = template.build(filter, pageSize, nextToken);
+		byte[] content = doGraphQLRequest(request, query, estimatePageCost(request, pageSize), byte[].class);
+		if (content == null || content.length == 0) {
+			logger.error("Error while populate aggregated device, the response is empty.");
+			return null;
 		}
+		return content;
 	}
 
 	/**
-	 * populate system data from request
+	 * Estimates the query cost of a deviceSearch page, from the cost Poly Lens reported for the last page of the same query
+	 * or, until a page was received, from the estimated cost of the query
 	 *
-	 * @param statistics the stats are list of Statistics
+	 * @param request deviceSearch query to send
+	 * @param requestedPageSize number of devices requested in the page
+	 * @return estimated query cost of the page
 	 */
-	private void populateSystemData(Map<String, String> statistics) {
-		String queryCostGroup;
-		for (PolyLensSystemInfoMetric property : PolyLensSystemInfoMetric.values()) {
-			queryCostGroup = PolyLensConstant.EMPTY;
-			if (property.isQueryCost()) {
-				queryCostGroup = PolyLensConstant.QUERY_COST_GROUP;
-			}
-			statistics.put(queryCostGroup.concat(property.getName()), getDefaultValueForNullData(systemInformation.getValueByMetricName(property)));
-		}
+	private long estimatePageCost(PolyLensProperties request, int requestedPageSize) {
+		Double costPerDevice = pageCosts.get(request);
+		return (long) Math.ceil((costPerDevice == null ? request.getEstimatedCost() : costPerDevice) * requestedPageSize);
 	}
 
 	/**
-	 * Get Token from Poly Lens
+	 * Keeps the query cost per requested device that Poly Lens reported for a deviceSearch page in {@link #pageCosts}
 	 *
-	 * @return new token
-	 * @throws throw an FailedLogin exception when token retrieval fails.
+	 * @param request deviceSearch query that was sent
+	 * @param queryCost calculateQueryCost of the response
+	 * @param requestedPageSize number of devices requested in the page
 	 */
-	private String getToken() throws Exception {
-		String token;
-		String body = String.format("{\"client_id\":\"%s\",\"client_secret\":\"%s\",\"grant_type\":\"%s\"}",
-				this.getLogin(), this.getPassword(), PolyLensConstant.GRANT_TYPE);
-		try {
-			String urlToken = !host.startsWith(PolyLensConstant.API) ? host :
-					PolyLensConstant.URL_LOGIN + host.substring(PolyLensConstant.API.length()) + PolyLensConstant.OAUTH_TOKEN;
-			JsonNode response = doPost(urlToken, body, JsonNode.class);
-			if (response.size() == 1) {
-				throw new IllegalArgumentException("ClientId and ClientSecret are not correct");
-			}
-			tokenExpire = System.currentTimeMillis();
-			token = response.get(PolyLensConstant.ACCESS_TOKEN).asText();
-			expiresIn = (response.get(PolyLensConstant.EXPIRES_IN).asLong() - PolyLensConstant.HALF_AN_HOUR) * 1000;
-		} catch (Exception e) {
-			String message = String.format("Failed to retrieve an access token for account with from client id and client secret. Please check client id and client secret");
-			throw new FailedLoginException(message);
+	private void updatePageCost(PolyLensProperties request, QueryCost queryCost, int requestedPageSize) {
+		if (queryCost != null && queryCost.getQueryCost() != null && queryCost.getQueryCost() >= 0 && requestedPageSize > 0) {
+			pageCosts.put(request, (double) queryCost.getQueryCost() / requestedPageSize);
 		}
-		return token;
 	}
 
 	/**
-	 * Get system information of Poly Lens
+	 * Updates the query cost of the cached {@link #systemInformation} and {@link #queryCostRateLimiter}
+	 * from the calculateQueryCost that comes along with device pages
+	 *
+	 * @param queryCost calculateQueryCost of a response
 	 */
-	private void retrieveSystemInfo() {
+	private void updateQueryCost(QueryCost queryCost) {
+		if (queryCost == null) {
+			return;
+		}
 		try {
-			JsonNode systemResponse = this.doPost(PolyLensConstant.URI_POLY_LENS, PolyLensProperties.SYSTEM_INFO.getCommand(), JsonNode.class);
-			JsonNode numberDevicesResponse = this.doPost(PolyLensConstant.URI_POLY_LENS, PolyLensQueries.NUMBER_AGGREGATED_DEVICES.replace(PolyLensConstant.VARIABLES, createVariableForFiltering()),
-					JsonNode.class);
-			systemInformation = objectMapper.treeToValue(systemResponse.get(PolyLensConstant.DATA), SystemInformation.class);
-			int numberDevice = numberDevicesResponse.get(PolyLensConstant.DATA).get(PolyLensConstant.DEVICE_SEARCH).get(PolyLensConstant.PAGE_INFO).get(PolyLensConstant.TOTAL_COUNT).asInt();
-			systemInformation.setCountDevices(numberDevice);
+			SystemInformation information = systemInformation;
+			if (information != null) {
+				SystemInformation updatedInformation = new SystemInformation();
+				updatedInformation.setCountDevices(information.getCountDevices());
+				updatedInformation.setTenantCount(information.getTenantCount());
+				updatedInformation.setTenants(information.getTenants());
+				updatedInformation.setQueryCost(queryCost);
+				systemInformation = updatedInformation;
+			}
+			queryCostRateLimiter.update(queryCost);
 		} catch (Exception e) {
-			throw new ResourceNotReachableException("Unable to retrieve system information.", e);
+			logger.debug("Unable to read the query cost of the response", e);
 		}
 	}
 
 	/**
-	 * populate detail aggregated device
-	 * add aggregated device into aggregated device list
-	 */
-	private void populateDeviceDetails() {
-		try {
-			String query = PolyLensProperties.AGGREGATED_DEVICES.getCommand();
-			query = query.replace(PolyLensConstant.VARIABLES, createVariableForFiltering());
-			if (!PolyLensConstant.NULL.equals(nextToken)) {
-				query = query.replace(PolyLensConstant.NULL, PolyLensConstant.QUOTES + nextToken + PolyLensConstant.QUOTES);
-			}
-			JsonNode aggregatedDevice = this.doPost(PolyLensConstant.URI_POLY_LENS, query, JsonNode.class);
-			if (aggregatedDevice == null) {
-				logger.error("Error while populate aggregated device, the response is empty.");
-				return;
+	 * Extracts devices of one deviceSearch page into {@link #cachedAggregatedDeviceList} and populates the changed ones into
+	 * {@link #aggregatedDeviceList}, see {@link #publishPageProgress()} for the publication of {@link #deviceSnapshot}.
+	 * Device nodes are streamed from the raw page one at a time, the page is never read into a full JsonNode tree.
+	 * Linked devices and entitlements are read once into typed lists carried by the cached device.
+	 *
+	 * @param content raw content of deviceSearch page
+	 * @throws IOException if the page is not valid JSON
+	 */
+	private void processDevicePage(byte[] content) throws IOException {
+		deviceSearchPageReader.readNodes(content, jsonNode -> {
+			String id = jsonNode.path(PolyLensConstant.ID).asText(null);
+			boolean extracted = false;
+			for (AggregatedDevice extractedDevice : deviceMapper.extractDevices(jsonNode)) {
+				extractedDevice.setProperties(new CompactPropertyMap(devicePropertySchema, extractedDevice.getProperties()));
+				CachedAggregatedDevice device = new CachedAggregatedDevice(extractedDevice);
+				device.setLinkedDevices(readDeviceList(linkedDevicesReader, jsonNode.get(PolyLensConstant.CONNECTIONS_FIELD)));
+				device.setEntitlements(readDeviceList(entitlementsReader, jsonNode.get(PolyLensConstant.ENTITLEMENTS_FIELD)));
+				storeDevice(extractedDevice.getDeviceId(), device);
+				extracted |= id != null && id.equals(extractedDevice.getDeviceId());
 			}
-			JsonNode jsonArray = aggregatedDevice.get(PolyLensConstant.DATA).get(PolyLensConstant.DEVICE_SEARCH).get(PolyLensConstant.EDGES);
-			nextToken = aggregatedDevice.get(PolyLensConstant.DATA).get(PolyLensConstant.DEVICE_SEARCH).get(PolyLensConstant.PAGE_INFO).get(PolyLensConstant.NEXT_TOKEN).asText();
-			for (JsonNode jsonNode : jsonArray) {
-				JsonNode node = objectMapper.createArrayNode().add(jsonNode.get(PolyLensConstant.NODE));
-
-				String id = jsonNode.get(PolyLensConstant.NODE).get(PolyLensConstant.ID).asText();
+			if (id != null && !extracted) {
 				cachedAggregatedDeviceList.remove(id);
-				aggregatedDeviceProcessor.extractDevices(node).forEach(device -> {
-					cachedAggregatedDeviceList.put(device.getDeviceId(), device);
-				});
 			}
+		});
+		publishPageProgress();
+	}
+
+	/**
+	 * Reads a list field of a device node into typed objects
+	 *
+	 * @param reader reader of the list type
+	 * @param listNode list field of the device node
+	 * @return typed list, null if the field is missing or can't be read
+	 */
+	private <T> List<T> readDeviceList(ObjectReader reader, JsonNode listNode) {
+		if (listNode == null || !listNode.isArray()) {
+			return null;
+		}
+		try {
+			return reader.readValue(listNode);
 		} catch (Exception e) {
-			logger.error("Error while populate aggregated device", e);
+			logger.debug("Unable to read the list of the device", e);
+			return null;
 		}
 	}
 
 	/**
-	 * Clone an aggregated device list that based on aggregatedDeviceList variable
-	 * populate monitoring and controlling for aggregated device
+	 * Builds the aggregated device reported to Symphony from a cached aggregated device,
+	 * populating monitoring and controlling properties
 	 *
-	 * @return List<AggregatedDevice> aggregated device list
-	 */
-	private List<AggregatedDevice> cloneAndPopulateAggregatedDeviceList() {
-		synchronized (aggregatedDeviceList) {
-			for (AggregatedDevice aggregatedDevice : cachedAggregatedDeviceList.values()) {
-				Map<String, String> stats = aggregatedDevice.getProperties();
-				List<AdvancedControllableProperty> controllableProperties = new ArrayList<>();
-				stats = mapMonitoringProperty(stats);
-				if (Boolean.TRUE.equals(aggregatedDevice.getDeviceOnline())) {
-					createControl(controllableProperties, stats);
-				}
+	 * @param cachedDevice cached aggregated device
+	 * @return AggregatedDevice fully populated aggregated device
+	 */
+	private AggregatedDevice populateAggregatedDevice(CachedAggregatedDevice cachedDevice) {
+		AggregatedDevice aggregatedDevice = cachedDevice.getDevice();
+		Map<String, String> stats = mapMonitoringProperty(aggregatedDevice.getProperties(), cachedDevice.getLinkedDevices(), cachedDevice.getEntitlements());
+		List<AdvancedControllableProperty> controllableProperties = new ArrayList<>();
+		if (Boolean.TRUE.equals(aggregatedDevice.getDeviceOnline())) {
+			createControl(controllableProperties, stats);
+		}
 
-				AggregatedDevice device = aggregatedDeviceList.get(aggregatedDevice.getDeviceId());
-				if (device == null) {
-					device = new AggregatedDevice();
-				}
+		AggregatedDevice device = new AggregatedDevice();
+		device.setDeviceId(aggregatedDevice.getDeviceId());
+		device.setDeviceModel(aggregatedDevice.getDeviceModel());
+		device.setDeviceOnline(aggregatedDevice.getDeviceOnline());
+		device.setDeviceName(aggregatedDevice.getDeviceName());
+		device.setSerialNumber(aggregatedDevice.getSerialNumber());
+		device.setMacAddresses(aggregatedDevice.getMacAddresses());
+		String inCallStatus = getDefaultValueForNullData(stats.get(PolyLensAggregatedMetric.CALL_STATUS.getName()));
+		//InCallStatus: IN_CALL, NOT_IN_CALL, UNSUPPORTED, UNKNOWN
+		setInCall(device, "IN_CALL".equalsIgnoreCase(inCallStatus));
+		device.setProperties(new CompactPropertyMap(monitoringPropertySchema, stats));
+		device.setControllableProperties(controllableProperties);
+		return device;
+	}
 
-				device.setDeviceId(aggregatedDevice.getDeviceId());
-				device.setDeviceModel(aggregatedDevice.getDeviceModel());
-				device.setDeviceOnline(aggregatedDevice.getDeviceOnline());
-				device.setDeviceName(aggregatedDevice.getDeviceName());
-				device.setSerialNumber(aggregatedDevice.getSerialNumber());
-				device.setMacAddresses(aggregatedDevice.getMacAddresses());
-				String inCallStatus = getDefaultValueForNullData(stats.get(PolyLensAggregatedMetric.CALL_STATUS.getName()));
-				//InCallStatus: IN_CALL, NOT_IN_CALL, UNSUPPORTED, UNKNOWN
-				setInCall(device, "IN_CALL".equalsIgnoreCase(inCallStatus));
-				device.setProperties(stats);
-				device.setControllableProperties(controllableProperties);
-				addOrUpdateAggregatedDevice(device);
-			}
+	/**
+	 * Counts a page processed during the running cycle and publishes the devices changed so far every
+	 * {@link PolyLensConstant#SNAPSHOT_PUBLISH_PAGE_INTERVAL} pages. A long sweep is reported progressively
+	 * without copying and indexing the whole device list for every page, the rest is published at the end of the cycle.
+	 */
+	private void publishPageProgress() {
+		if (processedPages.incrementAndGet() % PolyLensConstant.SNAPSHOT_PUBLISH_PAGE_INTERVAL == 0) {
+			publishModifiedDeviceSnapshot();
 		}
-		if (systemInformation.getCountDevices() < cachedAggregatedDeviceList.size()) {
-			cachedAggregatedDeviceList.clear();
+	}
+
+	/**
+	 * Publishes a new {@link #deviceSnapshot} if {@link #aggregatedDeviceList} changed since the last one
+	 */
+	private void publishModifiedDeviceSnapshot() {
+		if (deviceListModified.getAndSet(false)) {
+			publishDeviceSnapshot();
 		}
-		return new ArrayList<>(aggregatedDeviceList.values());
 	}
 
 	/**
-	 * Adds or updates the aggregated device in the aggregated device list.
-	 *
-	 * @param aggregatedDevice The aggregated device to be added or updated.
+	 * Publishes the current content of {@link #aggregatedDeviceList} as a new {@link #deviceSnapshot}
 	 */
-	private void addOrUpdateAggregatedDevice(AggregatedDevice aggregatedDevice) {
-		boolean isExist = aggregatedDeviceList.containsKey(aggregatedDevice.getDeviceId());
-		if (isExist) {
-			aggregatedDeviceList.remove(aggregatedDevice.getDeviceId());
+	private void publishDeviceSnapshot() {
+		snapshotLock.lock();
+		try {
+			deviceSnapshot.set(new DeviceSnapshot(aggregatedDeviceList.values()));
+		} finally {
+			snapshotLock.unlock();
 		}
-		aggregatedDeviceList.put(aggregatedDevice.getDeviceId(), aggregatedDevice);
 	}
 
 	/**
@@ -942,16 +1934,18 @@ public class PolyLensCommunicator extends RestCommunicator implements Aggregator
 	 * map monitoring property into stats of aggregated device
 	 *
 	 * @param oldStats stats from model mapping
+	 * @param linkedDeviceList linked devices of the device, null if unknown
+	 * @param entitlementList entitlements of the device, null if unknown
 	 * @return stats after modify data
 	 */
-	private Map<String, String> mapMonitoringProperty(Map<String, String> oldStats) {
+	private Map<String, String> mapMonitoringProperty(Map<String, String> oldStats, List<LinkedDevice> linkedDeviceList, List<Entitlement> entitlementList) {
 		Map<String, String> newProperties = new HashMap<>();
-		String linkedDevices = oldStats.get(PolyLensConstant.LINKED_DEVICES);
-		String entitlements = oldStats.get(PolyLensConstant.ENTITLEMENTS);
-		List<LinkedDevice> linkedDeviceList;
-		List<Entitlement> entitlementList;
+		Set<PolyLensAggregatedMetric> metrics = fieldSelection.getMetrics();
 		String group;
 		for (PolyLensAggregatedMetric property : PolyLensAggregatedMetric.values()) {
+			if (!metrics.contains(property)) {
+				continue;
+			}
 			String name = property.getName();
 			switch (property) {
 				case MODEL:
@@ -983,7 +1977,7 @@ public class PolyLensCommunicator extends RestCommunicator implements Aggregator
 					newProperties.put(PolyLensConstant.LOCATION_GROUP.concat(PolyLensConstant.LONGITUDE), getDefaultValueForNullData(oldStats.get(PolyLensConstant.LOCATION_LONGITUDE)));
 					break;
 				case BANDWIDTH:
-					newProperties.put(PolyLensConstant.BANDWIDTH_GROUP.concat(PolyLensConstant.END_TIME), convertFormatDateTime(getDefaultValueForNullData(oldStats.get(PolyLensConstant.BANDWIDTH_END_TIME))));
+					newProperties.put(PolyLensConstant.BANDWIDTH_GROUP.concat(PolyLensConstant.END_TIME), Util.convertFormatDateTime(getDefaultValueForNullData(oldStats.get(PolyLensConstant.BANDWIDTH_END_TIME))));
 					newProperties.put(PolyLensConstant.BANDWIDTH_GROUP.concat(PolyLensConstant.DOWNLOAD),
 							getTwoDecimalPlaces(getDefaultValueForNullData(oldStats.get(PolyLensConstant.BANDWIDTH_DOWNLOAD_MBPS))));
 					newProperties.put(PolyLensConstant.BANDWIDTH_GROUP.concat(PolyLensConstant.PING_JITTER),
@@ -995,41 +1989,29 @@ public class PolyLensCommunicator extends RestCommunicator implements Aggregator
 							getTwoDecimalPlaces(getDefaultValueForNullData(oldStats.get(PolyLensConstant.BANDWIDTH_PING_LOSS_PERCENT))));
 					break;
 				case LINKED_DEVICES:
-					try {
-						linkedDeviceList = objectMapper.readValue(linkedDevices, new TypeReference<List<LinkedDevice>>() {
-						});
-						if (linkedDeviceList.isEmpty()) {
-							populateNoneDataForLinkedDeviceGroup(newProperties);
-						} else {
-							for (int i = 0; i < linkedDeviceList.size(); i++) {
-								group = PolyLensConstant.LINKED_DEVICE + formatOrderNumber(i, linkedDeviceList.size());
-								newProperties.put(group + PolyLensConstant.HASH + PolyLensConstant.NAME, getDefaultValueForNullData(linkedDeviceList.get(i).getName()));
-								newProperties.put(group + PolyLensConstant.HASH + PolyLensConstant.MAC, getDefaultValueForNullData(linkedDeviceList.get(i).getMacAddress()));
-								newProperties.put(group + PolyLensConstant.HASH + PolyLensConstant.SOFTWARE_VERSION, getDefaultValueForNullData(linkedDeviceList.get(i).getSoftwareVersion()));
-							}
-						}
-					} catch (Exception e) {
+					if (linkedDeviceList == null || linkedDeviceList.isEmpty()) {
 						populateNoneDataForLinkedDeviceGroup(newProperties);
+					} else {
+						for (int i = 0; i < linkedDeviceList.size(); i++) {
+							group = PolyLensConstant.LINKED_DEVICE + formatOrderNumber(i, linkedDeviceList.size());
+							newProperties.put(group + PolyLensConstant.HASH + PolyLensConstant.NAME, getDefaultValueForNullData(linkedDeviceList.get(i).getName()));
+							newProperties.put(group + PolyLensConstant.HASH + PolyLensConstant.MAC, getDefaultValueForNullData(linkedDeviceList.get(i).getMacAddress()));
+							newProperties.put(group + PolyLensConstant.HASH + PolyLensConstant.SOFTWARE_VERSION, getDefaultValueForNullData(linkedDeviceList.get(i).getSoftwareVersion()));
+						}
 					}
 					break;
 				case ENTITLEMENTS:
-					try {
-						entitlementList = objectMapper.readValue(entitlements, new TypeReference<List<Entitlement>>() {
-						});
-						if (entitlementList.isEmpty()) {
-							populateNoneDataForEntitlementsGroup(newProperties);
-						} else {
-							for (int i = 0; i < entitlementList.size(); i++) {
-								group = PolyLensConstant.ENTITLEMENTS + formatOrderNumber(i, entitlementList.size());
-								newProperties.put(group + PolyLensConstant.HASH + PolyLensConstant.ENTITLEMENTS_LICENSE_KEY, getDefaultValueForNullData(entitlementList.get(i).getLicenseKey()));
-								newProperties.put(group + PolyLensConstant.HASH + PolyLensConstant.ENTITLEMENTS_DATE, convertFormatDateTime(getDefaultValueForNullData(entitlementList.get(i).getDate())));
-								newProperties.put(group + PolyLensConstant.HASH + PolyLensConstant.ENTITLEMENTS_EXPIRED, getDefaultValueForNullData(entitlementList.get(i).getExpired()));
-								newProperties.put(group + PolyLensConstant.HASH + PolyLensConstant.ENTITLEMENTS_END_DATE, convertFormatDateTime(getDefaultValueForNullData(entitlementList.get(i).getEndDate())));
-								newProperties.put(group + PolyLensConstant.HASH + PolyLensConstant.ENTITLEMENTS_PRODUCT_SERIAL, getDefaultValueForNullData(entitlementList.get(i).getProductSerial()));
-							}
-						}
-					} catch (Exception e) {
+					if (entitlementList == null || entitlementList.isEmpty()) {
 						populateNoneDataForEntitlementsGroup(newProperties);
+					} else {
+						for (int i = 0; i < entitlementList.size(); i++) {
+							group = PolyLensConstant.ENTITLEMENTS + formatOrderNumber(i, entitlementList.size());
+							newProperties.put(group + PolyLensConstant.HASH + PolyLensConstant.ENTITLEMENTS_LICENSE_KEY, getDefaultValueForNullData(entitlementList.get(i).getLicenseKey()));
+							newProperties.put(group + PolyLensConstant.HASH + PolyLensConstant.ENTITLEMENTS_DATE, Util.convertFormatDateTime(getDefaultValueForNullData(entitlementList.get(i).getDate())));
+							newProperties.put(group + PolyLensConstant.HASH + PolyLensConstant.ENTITLEMENTS_EXPIRED, getDefaultValueForNullData(entitlementList.get(i).getExpired()));
+							newProperties.put(group + PolyLensConstant.HASH + PolyLensConstant.ENTITLEMENTS_END_DATE, Util.convertFormatDateTime(getDefaultValueForNullData(entitlementList.get(i).getEndDate())));
+							newProperties.put(group + PolyLensConstant.HASH + PolyLensConstant.ENTITLEMENTS_PRODUCT_SERIAL, getDefaultValueForNullData(entitlementList.get(i).getProductSerial()));
+						}
 					}
 					break;
 				case ROOM_NAME:
@@ -1048,7 +2030,7 @@ public class PolyLensCommunicator extends RestCommunicator implements Aggregator
 				case DATE_REGISTERED:
 				case LAST_DETECTED:
 				case LAST_CONFIG_REQUEST_DATE:
-					newProperties.put(name, convertFormatDateTime(getDefaultValueForNullData(oldStats.get(name))));
+					newProperties.put(name, Util.convertFormatDateTime(getDefaultValueForNullData(oldStats.get(name))));
 					break;
 				default:
 					newProperties.put(name, getDefaultValueForNullData(oldStats.get(name)));
@@ -1110,7 +2092,7 @@ public class PolyLensCommunicator extends RestCommunicator implements Aggregator
 	private void sendRequestToControlDevice(PolyLensProperties propertyItem, String deviceId) {
 		String command = propertyItem.getCommand().replace(PolyLensConstant.REBOOT_DEVICE_ID, deviceId);
 		try {
-			JsonNode response = this.doPost(PolyLensConstant.URI_POLY_LENS, command, JsonNode.class);
+			JsonNode response = doGraphQLRequest(propertyItem, command, (long) propertyItem.getEstimatedCost(), JsonNode.class);
 			JsonNode rebootDevice = response.get(PolyLensConstant.DATA).get(PolyLensConstant.RESTART_DEVICE);
 			if (!rebootDevice.get(PolyLensConstant.SUCCESS).asBoolean()) {
 				throw new IllegalArgumentException(
@@ -1121,6 +2103,71 @@ public class PolyLensCommunicator extends RestCommunicator implements Aggregator
 		}
 	}
 
+	/**
+	 * Reboots several devices at once. Devices are split into aliased mutations of {@link #rebootBatchSize} devices,
+	 * up to {@link #rebootConcurrency} mutations are sent concurrently by {@link #rebootExecutor}, each one waiting for its cost in {@link #queryCostRateLimiter}.
+	 * The result of every device is logged and kept in {@link #lastBulkReboot}.
+	 *
+	 * @param deviceIds ids of the devices to reboot
+	 */
+	private void rebootDevices(List<String> deviceIds) {
+		long start = System.currentTimeMillis();
+		int batchSize = Math.max(rebootBatchSize, 1);
+		List<BulkRebootMutation> mutations = new ArrayList<>();
+		for (int i = 0; i < deviceIds.size(); i += batchSize) {
+			mutations.add(new BulkRebootMutation(deviceIds.subList(i, Math.min(i + batchSize, deviceIds.size()))));
+		}
+		ExecutorService executor = rebootExecutor;
+		Map<String, String> failures = new ConcurrentHashMap<>();
+		Map<BulkRebootMutation, Future<Map<String, String>>> results = new LinkedHashMap<>();
+		try {
+			for (BulkRebootMutation mutation : mutations) {
+				try {
+					if (executor == null) {
+						throw new RejectedExecutionException("The adapter is stopped");
+					}
+					results.put(mutation, executor.submit(() -> sendBulkRebootRequest(mutation)));
+				} catch (RejectedExecutionException e) {
+					mutation.getDeviceIds().forEach(id -> failures.put(id, "The adapter is stopped"));
+				}
+			}
+			for (Map.Entry<BulkRebootMutation, Future<Map<String, String>>> result : results.entrySet()) {
+				try {
+					failures.putAll(result.getValue().get());
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					result.getKey().getDeviceIds().forEach(id -> failures.put(id, "The reboot was interrupted"));
+				} catch (ExecutionException e) {
+					Throwable cause = e.getCause() == null ? e : e.getCause();
+					logger.error(String.format("Unable to send the reboot mutation of devices %s", result.getKey().getDeviceIds()), cause);
+					String error = cause.getMessage() == null ? cause.toString() : cause.getMessage();
+					result.getKey().getDeviceIds().forEach(id -> failures.put(id, error));
+				}
+			}
+		} finally {
+			results.values().forEach(future -> future.cancel(true));
+		}
+		BulkRebootResult result = new BulkRebootResult(deviceIds.size(), failures, System.currentTimeMillis() - start);
+		lastBulkReboot = result;
+		failures.forEach((id, error) -> logger.error(String.format("Unable to reboot the device %s: %s", id, error)));
+		if (logger.isDebugEnabled()) {
+			logger.debug(String.format("Rebooted %s of %s devices in %s ms", result.getRebootedDevices(), result.getRequestedDevices(), result.getDuration()));
+		}
+	}
+
+	/**
+	 * Sends a reboot mutation of several devices
+	 *
+	 * @param mutation reboot mutation to send
+	 * @return error of every device that was not rebooted, by device id
+	 * @throws Exception if the budget is exhausted or the request fails
+	 */
+	private Map<String, String> sendBulkRebootRequest(BulkRebootMutation mutation) throws Exception {
+		PolyLensProperties propertyItem = PolyLensProperties.REBOOT_DEVICE;
+		JsonNode response = doGraphQLRequest(propertyItem, mutation.build(), (long) Math.ceil(propertyItem.getEstimatedCost() * mutation.getDeviceIds().size()), JsonNode.class);
+		return mutation.readFailures(response);
+	}
+
 	/**
 	 * check value is null or empty
 	 *
@@ -1149,28 +2196,105 @@ public class PolyLensCommunicator extends RestCommunicator implements Aggregator
 	}
 
 	/**
-	 * create variable of query GraphQL
+	 * Selects the metrics requested from Poly Lens from {@link #includedProperties}, or {@link #fieldProfile} if no property is listed,
+	 * and builds the deviceSearch request selecting their fields.
+	 * Cached and published devices are dropped when the selection changes, so that no device is reported with the previous fields
+	 * and the next cycle, brought forward, fetches every device with the new fields.
+	 */
+	private void updateFieldSelection() {
+		Set<PolyLensAggregatedMetric> metrics;
+		if (StringUtils.isNotNullOrEmpty(includedProperties)) {
+			metrics = PolyLensFieldProfile.getRequiredMetrics();
+			for (String name : includedProperties.split(PolyLensConstant.COMMA)) {
+				Optional<PolyLensAggregatedMetric> metric = Arrays.stream(PolyLensAggregatedMetric.values()).filter(item -> item.getName().equalsIgnoreCase(name.trim())).findFirst();
+				if (metric.isPresent()) {
+					metrics.add(metric.get());
+				} else {
+					logger.warn(String.format("Property %s is not supported and is ignored.", name.trim()));
+				}
+			}
+		} else {
+			PolyLensFieldProfile profile = PolyLensFieldProfile.FULL;
+			if (StringUtils.isNotNullOrEmpty(fieldProfile)) {
+				try {
+					profile = PolyLensFieldProfile.getByName(fieldProfile);
+				} catch (IllegalArgumentException e) {
+					logger.warn(String.format("Field profile %s is not supported, the Full profile is used.", fieldProfile));
+				}
+			}
+			metrics = profile.getMetrics();
+		}
+		if (metrics.equals(fieldSelection.getMetrics())) {
+			return;
+		}
+		fieldSelection = new PolyLensFieldSelection(metrics);
+		pageCosts.remove(PolyLensProperties.AGGREGATED_DEVICES);
+		cachedAggregatedDeviceList.clear();
+		aggregatedDeviceList.clear();
+		publishDeviceSnapshot();
+		nextDevicesCollectionIterationTimestamp = 0;
+		wakeUpDeviceDataLoader();
+	}
+
+	/**
+	 * create filter of query GraphQL.
+	 * The filter is built once and reused for every request until one of the filter properties changes.
 	 *
-	 * @return variables node
+	 * @return serialized filter node
 	 */
-	private String createVariableForFiltering() {
-		ObjectNode filterNode = jsonNodeFactory.objectNode();
+	byte[] createVariableForFiltering() {
+		byte[] variable = filteringVariable;
+		if (variable != null) {
+			return variable;
+		}
+		filteringLock.lock();
+		try {
+			if (filteringVariable == null) {
+				filteringVariable = buildVariableForFiltering();
+			}
+			return filteringVariable;
+		} finally {
+			filteringLock.unlock();
+		}
+	}
+
+	/**
+	 * build filter of query GraphQL from the filter properties
+	 *
+	 * @return serialized filter node
+	 */
+	private byte[] buildVariableForFiltering() {
 		ArrayNode andArr = jsonNodeFactory.arrayNode();
 		for (PolyLensFilteringMetric item : PolyLensFilteringMetric.values()) {
 			andArr.add(createFilteringNode(getFilterValue(item.getName()), item.getField(), item.getLogic()));
 		}
-		filterNode.putArray(PolyLensConstant.AND).addAll(andArr);
-		ObjectNode paramsNode = jsonNodeFactory.objectNode();
-		paramsNode.put(PolyLensConstant.PAGE_SIZE, pageSize);
-		paramsNode.set(PolyLensConstant.NEXT_TOKEN, null);
-		paramsNode.set(PolyLensConstant.FILTER, filterNode);
-		paramsNode.set(PolyLensConstant.SORT, createSortNode());
+		return createVariable(andArr);
+	}
 
-		ObjectNode variableNode = jsonNodeFactory.objectNode();
-		variableNode.set(PolyLensConstant.PARAMS, paramsNode);
+	/**
+	 * create filter of query GraphQL that selects the given devices.
+	 * The devices are known to match the configured filters already, so only their ids are used for filtering.
+	 *
+	 * @param deviceIds ids of the devices to select
+	 * @return serialized filter node
+	 */
+	private byte[] createVariableForFiltering(List<String> deviceIds) {
+		ArrayNode andArr = jsonNodeFactory.arrayNode();
+		andArr.add(createFilteringNode(String.join(PolyLensConstant.COMMA, deviceIds), PolyLensConstant.ID, PolyLensConstant.OR));
+		return createVariable(andArr);
+	}
 
-		String jsonString = variableNode.toString();
-		return PolyLensConstant.VARIABLES_FILTERING + jsonString;
+	/**
+	 * create filter of query GraphQL with the given filtering conditions,
+	 * page size, next token and sort are written by {@link GraphQLRequestTemplate}
+	 *
+	 * @param andArr filtering conditions, combined with AND logic
+	 * @return serialized filter node
+	 */
+	private byte[] createVariable(ArrayNode andArr) {
+		ObjectNode filterNode = jsonNodeFactory.objectNode();
+		filterNode.putArray(PolyLensConstant.AND).addAll(andArr);
+		return filterNode.toString().getBytes(StandardCharsets.UTF_8);
 	}
 
 	/**
@@ -1194,26 +2318,6 @@ public class PolyLensCommunicator extends RestCommunicator implements Aggregator
 		}
 	}
 
-	/**
-	 * Creates an ObjectNode representing the "sort" field in JSON.
-	 * This method creates an ObjectNode with the structure:
-	 *
-	 * @return The created ObjectNode representing the "sort" field.
-	 */
-	private ObjectNode createSortNode() {
-		ObjectNode sortNode = objectMapper.createObjectNode();
-		ArrayNode fieldsArrayNode = objectMapper.createArrayNode();
-
-		ObjectNode fieldNode = objectMapper.createObjectNode();
-		fieldNode.put(PolyLensConstant.FIELD_NAME, PolyLensConstant.ID);
-		fieldNode.put(PolyLensConstant.DIRECTION, PolyLensConstant.ASC);
-
-		fieldsArrayNode.add(fieldNode);
-
-		sortNode.set(PolyLensConstant.FIELDS, fieldsArrayNode);
-		return sortNode;
-	}
-
 	/**
 	 * Creates a JSON node representing a filtering node for GraphQL query.
 	 * The filtering node specifies the conditions for filtering data based on the provided input.
@@ -1273,30 +2377,6 @@ public class PolyLensCommunicator extends RestCommunicator implements Aggregator
 		return uppercaseFirstCharacter(input.replace(PolyLensConstant.UNDERSCORE, PolyLensConstant.SPACE));
 	}
 
-	/**
-	 * convert default date time to correct format date time
-	 *
-	 * @param dateTime default date time
-	 * @return correct format date time
-	 */
-	private String convertFormatDateTime(String dateTime) {
-		if (PolyLensConstant.NONE.equals(dateTime)) {
-			return dateTime;
-		}
-		String outputDateTime = PolyLensConstant.NONE;
-		SimpleDateFormat inputFormatter = new SimpleDateFormat(PolyLensConstant.DEFAULT_FORMAT_DATETIME, Locale.US);
-		inputFormatter.setTimeZone(TimeZone.getTimeZone(PolyLensConstant.UTC));
-		try {
-			Date date = inputFormatter.parse(dateTime);
-
-			SimpleDateFormat outputFormatter = new SimpleDateFormat(PolyLensConstant.NEW_FORMAT_DATETIME, Locale.US);
-			outputDateTime = outputFormatter.format(date);
-		} catch (Exception e) {
-			logger.debug(String.format("Unable to parse the datetime %s with format %s.", dateTime, PolyLensConstant.NEW_FORMAT_DATETIME));
-		}
-		return outputDateTime;
-	}
-
 	/**
 	 * Retrieves the two decimal places from the given input value.
 	 * This method extracts the two decimal places from the input value and returns it as a string.
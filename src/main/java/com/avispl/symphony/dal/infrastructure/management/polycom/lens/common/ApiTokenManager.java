@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.polycom.lens.common;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.dto.ApiToken;
+
+/**
+ * ApiTokenManager keeps the Poly Lens access token valid.
+ * Once started, the token is refreshed in the background after {@link PolyLensConstant#TOKEN_REFRESH_RATIO} of its lifetime,
+ * so requests don't wait for a login. A token is only retrieved inline when there is none yet or the background refresh failed until expiry.
+ * <p>
+ * Refreshes are single flight: concurrent callers wait for the refresh in progress and share its token instead of requesting their own.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.4
+ */
+public class ApiTokenManager {
+	private static final Log LOG = LogFactory.getLog(ApiTokenManager.class);
+
+	/**
+	 * Request of a new access token
+	 */
+	public interface TokenRequest {
+		/**
+		 * Retrieves a new access token
+		 *
+		 * @return access token
+		 * @throws Exception if the token can't be retrieved
+		 */
+		ApiToken request() throws Exception;
+	}
+
+	private final TokenRequest tokenRequest;
+	private final LongSupplier clock;
+	private final Supplier<ScheduledExecutorService> schedulerFactory;
+	private final ReentrantLock refreshLock = new ReentrantLock();
+	private volatile String token;
+	private volatile long expirationTimestamp;
+	private ScheduledExecutorService refreshScheduler;
+	private ScheduledFuture<?> scheduledRefresh;
+
+	/**
+	 * ApiTokenManager instantiation
+	 *
+	 * @param tokenRequest request of a new access token
+	 */
+	public ApiTokenManager(TokenRequest tokenRequest) {
+		this(tokenRequest, System::currentTimeMillis, Executors::newSingleThreadScheduledExecutor);
+	}
+
+	/**
+	 * ApiTokenManager instantiation with the given clock and scheduler of the background refresh
+	 *
+	 * @param tokenRequest request of a new access token
+	 * @param clock current time in milliseconds
+	 * @param schedulerFactory creates the scheduler of the background refresh when the manager is started
+	 */
+	ApiTokenManager(TokenRequest tokenRequest, LongSupplier clock, Supplier<ScheduledExecutorService> schedulerFactory) {
+		this.tokenRequest = tokenRequest;
+		this.clock = clock;
+		this.schedulerFactory = schedulerFactory;
+	}
+
+	/**
+	 * Starts the background refresh of the token
+	 */
+	public synchronized void start() {
+		if (refreshScheduler == null) {
+			refreshScheduler = schedulerFactory.get();
+		}
+	}
+
+	/**
+	 * Stops the background refresh and drops the token
+	 */
+	public synchronized void stop() {
+		if (refreshScheduler != null) {
+			refreshScheduler.shutdownNow();
+			refreshScheduler = null;
+		}
+		scheduledRefresh = null;
+		token = null;
+		expirationTimestamp = 0;
+	}
+
+	/**
+	 * Retrieves the current token, without checking whether it is still valid
+	 *
+	 * @return current token, null if there is none yet
+	 */
+	public String getCurrentToken() {
+		return token;
+	}
+
+	/**
+	 * Retrieves a valid token, the token is retrieved inline only if there is none or it expired
+	 *
+	 * @return valid token
+	 * @throws Exception if the token can't be retrieved
+	 */
+	public String getToken() throws Exception {
+		String current = token;
+		if (current != null && clock.getAsLong() < expirationTimestamp) {
+			return current;
+		}
+		return refresh(current);
+	}
+
+	/**
+	 * Replaces a token that was rejected or is about to expire.
+	 * If another caller already replaced it, the new token is returned without any request.
+	 *
+	 * @param staleToken token to replace, may be null
+	 * @return valid token
+	 * @throws Exception if the token can't be retrieved
+	 */
+	public String refresh(String staleToken) throws Exception {
+		refreshLock.lock();
+		try {
+			String current = token;
+			if (current != null && !current.equals(staleToken) && clock.getAsLong() < expirationTimestamp) {
+				return current;
+			}
+			ApiToken apiToken = tokenRequest.request();
+			token = apiToken.getAccessToken();
+			expirationTimestamp = clock.getAsLong() + apiToken.getLifetime();
+			scheduleRefresh((long) (apiToken.getLifetime() * PolyLensConstant.TOKEN_REFRESH_RATIO));
+			return token;
+		} finally {
+			refreshLock.unlock();
+		}
+	}
+
+	/**
+	 * Schedules the background refresh of the token, replacing the one already scheduled
+	 *
+	 * @param delay delay (in milliseconds) before the refresh
+	 */
+	private synchronized void scheduleRefresh(long delay) {
+		if (refreshScheduler == null) {
+			return;
+		}
+		if (scheduledRefresh != null) {
+			scheduledRefresh.cancel(false);
+		}
+		try {
+			scheduledRefresh = refreshScheduler.schedule(this::refreshInBackground, Math.max(delay, 0L), TimeUnit.MILLISECONDS);
+		} catch (RejectedExecutionException e) {
+			scheduledRefresh = null;
+		}
+	}
+
+	/**
+	 * Refreshes the token from the scheduler, a failed refresh is retried while the current token is still valid
+	 */
+	private void refreshInBackground() {
+		String current = token;
+		try {
+			refresh(current);
+		} catch (Exception e) {
+			LOG.warn("Unable to refresh the API token in the background", e);
+			if (clock.getAsLong() + PolyLensConstant.TOKEN_REFRESH_RETRY_DELAY < expirationTimestamp) {
+				scheduleRefresh(PolyLensConstant.TOKEN_REFRESH_RETRY_DELAY);
+			}
+		}
+	}
+}
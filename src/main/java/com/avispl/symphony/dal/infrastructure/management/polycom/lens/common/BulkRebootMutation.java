@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.polycom.lens.common;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * BulkRebootMutation reboots several devices with a single GraphQL document.
+ * Every device gets its own aliased rebootDevice field, with the device id passed as a variable,
+ * so that the result of every device can be read from the response by its alias.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.4
+ */
+public class BulkRebootMutation {
+	private final List<String> deviceIds;
+
+	/**
+	 * BulkRebootMutation instantiation
+	 *
+	 * @param deviceIds ids of the devices to reboot
+	 */
+	public BulkRebootMutation(List<String> deviceIds) {
+		this.deviceIds = deviceIds;
+	}
+
+	/**
+	 * Retrieves {@link #deviceIds}
+	 *
+	 * @return value of {@link #deviceIds}
+	 */
+	public List<String> getDeviceIds() {
+		return deviceIds;
+	}
+
+	/**
+	 * Builds the body of the request
+	 *
+	 * @return body of the request
+	 */
+	public String build() {
+		StringBuilder variables = new StringBuilder();
+		StringBuilder selections = new StringBuilder();
+		ObjectNode variablesNode = JsonNodeFactory.instance.objectNode();
+		for (int i = 0; i < deviceIds.size(); i++) {
+			String alias = getAlias(i);
+			if (i > 0) {
+				variables.append(PolyLensConstant.COMMA).append(PolyLensConstant.SPACE);
+			}
+			variables.append(String.format(PolyLensQueries.BULK_REBOOT_VARIABLE, alias));
+			selections.append(PolyLensConstant.SPACE).append(String.format(PolyLensQueries.BULK_REBOOT_SELECTION, alias, alias));
+			variablesNode.put(alias, deviceIds.get(i));
+		}
+		ObjectNode body = JsonNodeFactory.instance.objectNode();
+		body.put(PolyLensConstant.QUERY, PolyLensQueries.BULK_REBOOT_START + variables + ") {" + selections + " }");
+		body.set(PolyLensConstant.VARIABLES_FIELD, variablesNode);
+		return body.toString();
+	}
+
+	/**
+	 * Reads the result of every device from the response
+	 *
+	 * @param response response of the request
+	 * @return error of every device that was not rebooted, by device id
+	 */
+	public Map<String, String> readFailures(JsonNode response) {
+		Map<String, String> failures = new LinkedHashMap<>();
+		JsonNode data = response == null ? null : response.get(PolyLensConstant.DATA);
+		JsonNode errors = response == null ? null : response.get(PolyLensConstant.ERRORS);
+		for (int i = 0; i < deviceIds.size(); i++) {
+			JsonNode rebootDevice = data == null ? null : data.get(getAlias(i));
+			if (rebootDevice == null || rebootDevice.isNull()) {
+				failures.put(deviceIds.get(i), errors == null ? "The device has not responded" : errors.toString());
+			} else if (!rebootDevice.path(PolyLensConstant.SUCCESS).asBoolean()) {
+				failures.put(deviceIds.get(i), rebootDevice.path(PolyLensConstant.ERROR).asText());
+			}
+		}
+		return failures;
+	}
+
+	/**
+	 * Retrieves the alias of a device of the mutation
+	 *
+	 * @param index index of the device
+	 * @return alias of the device
+	 */
+	private static String getAlias(int index) {
+		return PolyLensConstant.BULK_REBOOT_ALIAS + index;
+	}
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.polycom.lens.common;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * CompactPropertyMap is a compact {@link Map} of device properties.
+ * Aggregated devices share the same property names (Model#Name, SystemStatus#Cameras, Bandwidth#Download...), so the names are
+ * kept once in a {@link PropertySchema} shared by the maps of an adapter instance and each map only stores an array of values indexed by the schema,
+ * sized to the highest index of its own properties.
+ * Short values are interned in the bounded pool of the schema, since values such as None, True, OK, model names or software versions repeat across devices.
+ * <p>
+ * Properties beyond the size limit of the schema and null values are kept in a regular map.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.4
+ */
+public class CompactPropertyMap extends AbstractMap<String, String> implements Serializable {
+	private static final long serialVersionUID = 1L;
+	private final PropertySchema schema;
+	private transient String[] values;
+	private transient Map<String, String> extraProperties;
+	private transient int size;
+	private transient Set<Entry<String, String>> entrySet;
+
+	/**
+	 * CompactPropertyMap instantiation
+	 *
+	 * @param schema key schema of the map
+	 * @param properties properties to copy
+	 */
+	public CompactPropertyMap(PropertySchema schema, Map<String, String> properties) {
+		this.schema = schema;
+		int length = 0;
+		for (String key : properties.keySet()) {
+			length = Math.max(length, schema.indexOf(key, true) + 1);
+		}
+		values = new String[length];
+		putAll(properties);
+	}
+
+	/**
+	 * Retrieves {@link #schema}
+	 *
+	 * @return value of {@link #schema}
+	 */
+	public PropertySchema getSchema() {
+		return schema;
+	}
+
+	@Override
+	public String get(Object key) {
+		int index = schema.indexOf(key, false);
+		if (index >= 0 && index < values.length && values[index] != null) {
+			return values[index];
+		}
+		return extraProperties == null ? null : extraProperties.get(key);
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		int index = schema.indexOf(key, false);
+		if (index >= 0 && index < values.length && values[index] != null) {
+			return true;
+		}
+		return extraProperties != null && extraProperties.containsKey(key);
+	}
+
+	@Override
+	public String put(String key, String value) {
+		int index = value == null ? -1 : schema.indexOf(key, true);
+		if (index < 0) {
+			String previous = removeValue(key);
+			if (extraProperties == null) {
+				extraProperties = new HashMap<>();
+			}
+			extraProperties.put(key, value);
+			size++;
+			return previous;
+		}
+		String previous = extraProperties == null || !extraProperties.containsKey(key) ? null : removeExtraProperty(key);
+		if (index >= values.length) {
+			values = Arrays.copyOf(values, index + 1);
+		}
+		String current = values[index];
+		values[index] = schema.intern(value);
+		if (current == null) {
+			size++;
+			return previous;
+		}
+		return current;
+	}
+
+	@Override
+	public String remove(Object key) {
+		return removeValue(key);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public Set<Entry<String, String>> entrySet() {
+		if (entrySet == null) {
+			entrySet = new AbstractSet<Entry<String, String>>() {
+				@Override
+				public Iterator<Entry<String, String>> iterator() {
+					return new EntryIterator();
+				}
+
+				@Override
+				public int size() {
+					return size;
+				}
+			};
+		}
+		return entrySet;
+	}
+
+	/**
+	 * Removes a property from the values or the extra properties
+	 *
+	 * @param key name of the property
+	 * @return previous value of the property
+	 */
+	private String removeValue(Object key) {
+		int index = schema.indexOf(key, false);
+		if (index >= 0 && index < values.length && values[index] != null) {
+			String previous = values[index];
+			values[index] = null;
+			size--;
+			return previous;
+		}
+		if (extraProperties != null && extraProperties.containsKey(key)) {
+			return removeExtraProperty(key);
+		}
+		return null;
+	}
+
+	/**
+	 * Removes a property from the extra properties
+	 *
+	 * @param key name of the property
+	 * @return previous value of the property
+	 */
+	private String removeExtraProperty(Object key) {
+		size--;
+		return extraProperties.remove(key);
+	}
+
+	/**
+	 * Writes the schema and the properties as name/value pairs
+	 *
+	 * @param out output stream
+	 * @throws IOException if the properties can't be written
+	 */
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		out.defaultWriteObject();
+		out.writeInt(size);
+		for (Entry<String, String> entry : entrySet()) {
+			out.writeObject(entry.getKey());
+			out.writeObject(entry.getValue());
+		}
+	}
+
+	/**
+	 * Reads the properties written by {@link #writeObject(ObjectOutputStream)}
+	 *
+	 * @param in input stream
+	 * @throws IOException if the properties can't be read
+	 * @throws ClassNotFoundException if the properties can't be read
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		values = new String[0];
+		int count = in.readInt();
+		for (int i = 0; i < count; i++) {
+			put((String) in.readObject(), (String) in.readObject());
+		}
+	}
+
+	/**
+	 * Iterator over the values of the schema, then over the extra properties
+	 */
+	private class EntryIterator implements Iterator<Entry<String, String>> {
+		private final String[] keys = schema.getKeys();
+		private final Iterator<Entry<String, String>> extraIterator = extraProperties == null ? null : extraProperties.entrySet().iterator();
+		private int nextIndex = advance(0);
+		private int lastIndex = -1;
+		private boolean lastExtra;
+
+		@Override
+		public boolean hasNext() {
+			return nextIndex < values.length || (extraIterator != null && extraIterator.hasNext());
+		}
+
+		@Override
+		public Entry<String, String> next() {
+			if (nextIndex < values.length) {
+				lastIndex = nextIndex;
+				lastExtra = false;
+				nextIndex = advance(nextIndex + 1);
+				return new SimpleImmutableEntry<>(keys[lastIndex], values[lastIndex]);
+			}
+			if (extraIterator != null && extraIterator.hasNext()) {
+				lastExtra = true;
+				lastIndex = -1;
+				return extraIterator.next();
+			}
+			throw new NoSuchElementException();
+		}
+
+		@Override
+		public void remove() {
+			if (lastExtra) {
+				extraIterator.remove();
+				lastExtra = false;
+				size--;
+				return;
+			}
+			if (lastIndex < 0) {
+				throw new IllegalStateException();
+			}
+			values[lastIndex] = null;
+			lastIndex = -1;
+			size--;
+		}
+
+		/**
+		 * Moves to the next index holding a value
+		 *
+		 * @param index index to start from
+		 * @return next index holding a value, the length of the values if there is none
+		 */
+		private int advance(int index) {
+			while (index < values.length && values[index] == null) {
+				index++;
+			}
+			return index;
+		}
+	}
+}
@@ -0,0 +1,350 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.polycom.lens.common;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.beanutils.converters.BooleanConverter;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.aggregator.parser.AggregatedDeviceProcessor;
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMapping;
+import com.avispl.symphony.dal.aggregator.parser.converter.JsonPropertyConverter;
+import com.avispl.symphony.dal.util.StringUtils;
+
+/**
+ * CompiledDeviceMapper maps device nodes to aggregated devices following the model mapping yml, like {@link AggregatedDeviceProcessor}.
+ * The {@code get("x")?.get("y")} expressions of the yml are compiled once into field paths, and device fields are set
+ * with straight-line setters, instead of parsing and evaluating every expression with SpEL and BeanUtils for every device.
+ * <p>
+ * Expressions that are not plain get chains are still evaluated with {@link JsonPropertyConverter}. If the yml uses features
+ * that the mapper does not compile (node path, control properties, deprecated statistics or device fields, unknown device fields),
+ * every device is mapped with {@link AggregatedDeviceProcessor} instead.
+ * <p>
+ * Unlike SpEL, a {@code .get()} step on a missing node resolves to an empty value instead of failing the whole page.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.4
+ */
+public class CompiledDeviceMapper {
+	private static final Log LOG = LogFactory.getLog(CompiledDeviceMapper.class);
+
+	/**
+	 * Same pattern as the one used by {@link AggregatedDeviceProcessor} to tell expressions from literal values
+	 */
+	private static final Pattern EXPRESSION_PATTERN = Pattern.compile(".+?[a-zA-Z]+?\\(.+?\\).*?");
+	private static final Pattern GET_STEP_PATTERN = Pattern.compile("\\G(\\?\\.|\\.)?get\\(\"([^\"]*)\"\\)");
+	private static final BooleanConverter BOOLEAN_CONVERTER = new BooleanConverter(Boolean.FALSE);
+
+	private final JsonPropertyConverter jsonPropertyConverter = new JsonPropertyConverter();
+	private final List<CompiledModel> models = new ArrayList<>();
+	private final AggregatedDeviceProcessor fallbackProcessor;
+
+	/**
+	 * CompiledDeviceMapper instantiation
+	 *
+	 * @param mapping model mapping loaded from the yml
+	 */
+	public CompiledDeviceMapper(Map<String, PropertiesMapping> mapping) {
+		AggregatedDeviceProcessor processor = null;
+		for (Map.Entry<String, PropertiesMapping> entry : mapping.entrySet()) {
+			CompiledModel model = compileModel(entry.getValue());
+			if (model == null) {
+				LOG.info(String.format("Model %s can't be compiled, devices are mapped with AggregatedDeviceProcessor", entry.getKey()));
+				processor = new AggregatedDeviceProcessor(mapping);
+				models.clear();
+				break;
+			}
+			models.add(model);
+		}
+		fallbackProcessor = processor;
+	}
+
+	/**
+	 * Checks whether the mapping is compiled, or devices are mapped with {@link AggregatedDeviceProcessor}
+	 *
+	 * @return true if the mapping is compiled
+	 */
+	public boolean isCompiled() {
+		return fallbackProcessor == null;
+	}
+
+	/**
+	 * Maps a device node to aggregated devices, one for every model whose filter matches the node
+	 *
+	 * @param node device node
+	 * @return list of aggregated devices
+	 */
+	public List<AggregatedDevice> extractDevices(JsonNode node) {
+		if (fallbackProcessor != null) {
+			ArrayNode nodes = JsonNodeFactory.instance.arrayNode().add(node);
+			return fallbackProcessor.extractDevices(nodes);
+		}
+		List<AggregatedDevice> devices = new ArrayList<>(1);
+		for (CompiledModel model : models) {
+			if (model.filter == null || !Boolean.parseBoolean(model.filter.evaluate(node))) {
+				continue;
+			}
+			AggregatedDevice device = new AggregatedDevice();
+			for (CompiledDeviceField deviceField : model.deviceFields) {
+				deviceField.setter.accept(device, deviceField.value.evaluate(node));
+			}
+			device.setProperties(model.properties.evaluate(node));
+			device.setDynamicStatistics(model.dynamicStatistics.evaluate(node));
+			device.setControllableProperties(new ArrayList<>());
+			devices.add(device);
+		}
+		return devices;
+	}
+
+	/**
+	 * Compiles the mapping of one model
+	 *
+	 * @param mapping mapping of the model
+	 * @return compiled model, or null if the mapping uses features that can't be compiled
+	 */
+	private CompiledModel compileModel(PropertiesMapping mapping) {
+		if (StringUtils.isNotNullOrEmpty(mapping.getNode()) || !isEmpty(mapping.getControlProperties()) || !isEmpty(mapping.getStatistics())) {
+			return null;
+		}
+		Map<String, String> deviceProperties = mapping.getDeviceProperties() == null ? Collections.emptyMap() : mapping.getDeviceProperties();
+		CompiledModel model = new CompiledModel();
+		for (Map.Entry<String, String> entry : deviceProperties.entrySet()) {
+			BiConsumer<AggregatedDevice, String> setter = createDeviceSetter(entry.getKey());
+			if (setter == null) {
+				return null;
+			}
+			model.deviceFields.add(new CompiledDeviceField(setter, compileProperty(entry.getValue())));
+		}
+		model.filter = StringUtils.isNullOrEmpty(mapping.getFilter()) ? null : compileExpression(mapping.getFilter().trim());
+		model.properties = new CompiledProperties(mapping.getProperties());
+		model.dynamicStatistics = new CompiledProperties(mapping.getDynamicStatistics());
+		return model;
+	}
+
+	/**
+	 * Creates the setter of a device field, values are converted the same way BeanUtils converts them
+	 *
+	 * @param name name of the device field
+	 * @return setter of the field, or null if the field is not supported
+	 */
+	private BiConsumer<AggregatedDevice, String> createDeviceSetter(String name) {
+		switch (name) {
+			case "deviceId":
+				return AggregatedDevice::setDeviceId;
+			case "deviceName":
+				return AggregatedDevice::setDeviceName;
+			case "deviceModel":
+				return AggregatedDevice::setDeviceModel;
+			case "deviceMake":
+				return AggregatedDevice::setDeviceMake;
+			case "category":
+				return AggregatedDevice::setCategory;
+			case "type":
+				return AggregatedDevice::setType;
+			case "serialNumber":
+				return AggregatedDevice::setSerialNumber;
+			case "aviSplAssetId":
+				return AggregatedDevice::setAviSplAssetId;
+			case "ownerAssetId":
+				return AggregatedDevice::setOwnerAssetId;
+			case "deviceOnline":
+				return (device, value) -> device.setDeviceOnline(BOOLEAN_CONVERTER.convert(Boolean.class, value));
+			case "macAddresses":
+				return (device, value) -> device.setMacAddresses(Collections.singletonList(value));
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * Compiles a property value of the yml, values that are not expressions are kept as literals
+	 *
+	 * @param value property value of the yml
+	 * @return compiled expression
+	 */
+	private CompiledExpression compileProperty(String value) {
+		if (value == null || !EXPRESSION_PATTERN.matcher(value).matches()) {
+			return new CompiledExpression(value == null ? "" : value, null, null);
+		}
+		return compileExpression(value.trim());
+	}
+
+	/**
+	 * Compiles an expression into a field path when it is a chain of get calls
+	 *
+	 * @param expression SpEL expression of the yml
+	 * @return compiled expression
+	 */
+	private CompiledExpression compileExpression(String expression) {
+		if (Boolean.TRUE.toString().equals(expression) || Boolean.FALSE.toString().equals(expression)) {
+			return new CompiledExpression(expression, null, null);
+		}
+		List<String> path = new ArrayList<>();
+		Matcher matcher = GET_STEP_PATTERN.matcher(expression);
+		int end = 0;
+		while (matcher.find()) {
+			boolean first = path.isEmpty();
+			if (first != (matcher.group(1) == null)) {
+				break;
+			}
+			path.add(matcher.group(2));
+			end = matcher.end();
+		}
+		if (path.isEmpty() || end != expression.length()) {
+			return new CompiledExpression(null, null, expression);
+		}
+		return new CompiledExpression(null, path.toArray(new String[0]), null);
+	}
+
+	/**
+	 * Checks whether a map is null or empty
+	 *
+	 * @param map map to check
+	 * @return true if the map is null or empty
+	 */
+	private static boolean isEmpty(Map<?, ?> map) {
+		return map == null || map.isEmpty();
+	}
+
+	/**
+	 * Compiled mapping of one model
+	 */
+	private static class CompiledModel {
+		private final List<CompiledDeviceField> deviceFields = new ArrayList<>();
+		private CompiledExpression filter;
+		private CompiledProperties properties;
+		private CompiledProperties dynamicStatistics;
+	}
+
+	/**
+	 * Compiled device field: the setter of the field and the expression of its value
+	 */
+	private static class CompiledDeviceField {
+		private final BiConsumer<AggregatedDevice, String> setter;
+		private final CompiledExpression value;
+
+		/**
+		 * CompiledDeviceField instantiation
+		 *
+		 * @param setter setter of the device field
+		 * @param value compiled expression of the value
+		 */
+		private CompiledDeviceField(BiConsumer<AggregatedDevice, String> setter, CompiledExpression value) {
+			this.setter = setter;
+			this.value = value;
+		}
+	}
+
+	/**
+	 * Compiled group of properties, properties with an empty value are left out like in {@link AggregatedDeviceProcessor}
+	 */
+	private class CompiledProperties {
+		private final String[] names;
+		private final CompiledExpression[] values;
+
+		/**
+		 * CompiledProperties instantiation
+		 *
+		 * @param properties properties of the yml, may be null
+		 */
+		private CompiledProperties(Map<String, String> properties) {
+			int size = properties == null ? 0 : properties.size();
+			names = new String[size];
+			values = new CompiledExpression[size];
+			int index = 0;
+			if (properties != null) {
+				for (Map.Entry<String, String> entry : properties.entrySet()) {
+					names[index] = entry.getKey();
+					values[index] = compileProperty(entry.getValue());
+					index++;
+				}
+			}
+		}
+
+		/**
+		 * Evaluates the properties against a device node
+		 *
+		 * @param node device node
+		 * @return map of properties with a value
+		 */
+		private Map<String, String> evaluate(JsonNode node) {
+			Map<String, String> result = new HashMap<>(names.length * 4 / 3 + 1);
+			for (int i = 0; i < names.length; i++) {
+				String value = values[i].evaluate(node);
+				if (StringUtils.isNotNullOrEmpty(value)) {
+					result.put(names[i], value);
+				}
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Compiled expression of the yml: a literal value, a field path or an expression left to SpEL
+	 */
+	private class CompiledExpression {
+		private final String literal;
+		private final String[] path;
+		private final String expression;
+
+		/**
+		 * CompiledExpression instantiation
+		 *
+		 * @param literal literal value, null if the expression is not a literal
+		 * @param path field path, null if the expression is not a chain of get calls
+		 * @param expression SpEL expression, null if the expression is compiled
+		 */
+		private CompiledExpression(String literal, String[] path, String expression) {
+			this.literal = literal;
+			this.path = path;
+			this.expression = expression;
+		}
+
+		/**
+		 * Evaluates the expression against a device node, with the same value conversion as {@link JsonPropertyConverter#retrieveJsonValue}
+		 *
+		 * @param node device node
+		 * @return value of the expression, empty if there is no value
+		 */
+		private String evaluate(JsonNode node) {
+			if (literal != null) {
+				return literal;
+			}
+			if (path == null) {
+				return jsonPropertyConverter.retrieveJsonValue(node, expression);
+			}
+			JsonNode current = node;
+			for (String field : path) {
+				if (current == null) {
+					return "";
+				}
+				current = current.get(field);
+			}
+			if (current == null || current.isNull()) {
+				return "";
+			}
+			if (current.isTextual()) {
+				String text = current.textValue();
+				return "null".equals(text) ? "" : text;
+			}
+			return current.toString();
+		}
+	}
+}
@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.polycom.lens.common;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.dto.CachedAggregatedDevice;
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.dto.DeviceCache;
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.dto.Entitlement;
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.dto.LinkedDevice;
+
+/**
+ * DeviceCacheStore keeps a compressed binary copy of the cached aggregated devices on disk, so that they can be restored after a restart.
+ * The file is written to a temporary file first and then moved over the previous one, a reader never sees a partially written file.
+ * Every file carries a key (account, filters and selected fields), a file written with another key is ignored.
+ * On POSIX file systems the file, and the directory when it is created, are only accessible by the owner since they hold the device inventory.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.4
+ */
+public class DeviceCacheStore {
+	private final Path file;
+	private final PropertySchema propertySchema;
+
+	/**
+	 * DeviceCacheStore instantiation
+	 *
+	 * @param file file of the device cache
+	 * @param propertySchema key schema of the properties of the restored devices
+	 */
+	public DeviceCacheStore(Path file, PropertySchema propertySchema) {
+		this.file = file;
+		this.propertySchema = propertySchema;
+	}
+
+	/**
+	 * Retrieves {@link #file}
+	 *
+	 * @return value of {@link #file}
+	 */
+	public Path getFile() {
+		return file;
+	}
+
+	/**
+	 * Writes the devices to the file, replacing the previous content
+	 *
+	 * @param key key of the devices
+	 * @param refreshTimestamp timestamp of the last full refresh of the devices
+	 * @param devices cached aggregated devices
+	 * @throws IOException if the file can't be written
+	 */
+	public void write(String key, long refreshTimestamp, Collection<CachedAggregatedDevice> devices) throws IOException {
+		boolean posix = file.getFileSystem().supportedFileAttributeViews().contains(PolyLensConstant.POSIX);
+		Path directory = file.toAbsolutePath().getParent();
+		if (directory != null && !Files.isDirectory(directory)) {
+			if (posix) {
+				Files.createDirectories(directory, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString(PolyLensConstant.DEVICE_CACHE_DIRECTORY_PERMISSIONS)));
+			} else {
+				Files.createDirectories(directory);
+			}
+		}
+		Path temporaryFile = file.resolveSibling(file.getFileName() + PolyLensConstant.DEVICE_CACHE_TEMPORARY_EXTENSION);
+		Files.deleteIfExists(temporaryFile);
+		if (posix) {
+			Files.createFile(temporaryFile, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString(PolyLensConstant.DEVICE_CACHE_FILE_PERMISSIONS)));
+		}
+		List<CachedAggregatedDevice> snapshot = new ArrayList<>(devices);
+		Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+		try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(
+				new DeflaterOutputStream(Files.newOutputStream(temporaryFile), deflater), PolyLensConstant.REQUEST_BUFFER_SIZE))) {
+			output.writeInt(PolyLensConstant.DEVICE_CACHE_FORMAT_VERSION);
+			writeString(output, key);
+			output.writeLong(refreshTimestamp);
+			output.writeInt(snapshot.size());
+			for (CachedAggregatedDevice device : snapshot) {
+				writeDevice(output, device);
+			}
+		} finally {
+			deflater.end();
+		}
+		try {
+			Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 * Reads the devices from the file
+	 *
+	 * @param key expected key of the devices
+	 * @return devices of the file, null if there is no file or the file was written with another key or format
+	 * @throws IOException if the file can't be read
+	 */
+	public DeviceCache read(String key) throws IOException {
+		if (!Files.isRegularFile(file)) {
+			return null;
+		}
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(new InflaterInputStream(Files.newInputStream(file)),
+				PolyLensConstant.REQUEST_BUFFER_SIZE))) {
+			if (input.readInt() != PolyLensConstant.DEVICE_CACHE_FORMAT_VERSION || !key.equals(readString(input))) {
+				return null;
+			}
+			long refreshTimestamp = input.readLong();
+			int count = readSize(input);
+			List<CachedAggregatedDevice> devices = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				devices.add(readDevice(input));
+			}
+			return new DeviceCache(refreshTimestamp, devices);
+		}
+	}
+
+	/**
+	 * Deletes the file
+	 *
+	 * @throws IOException if the file can't be deleted
+	 */
+	public void delete() throws IOException {
+		Files.deleteIfExists(file);
+	}
+
+	/**
+	 * Writes a cached aggregated device
+	 *
+	 * @param output output of the file
+	 * @param cachedDevice cached aggregated device
+	 * @throws IOException if the device can't be written
+	 */
+	private static void writeDevice(DataOutputStream output, CachedAggregatedDevice cachedDevice) throws IOException {
+		AggregatedDevice device = cachedDevice.getDevice();
+		writeString(output, device.getDeviceId());
+		writeString(output, device.getDeviceName());
+		writeString(output, device.getDeviceModel());
+		output.writeByte(device.getDeviceOnline() == null ? -1 : device.getDeviceOnline() ? 1 : 0);
+		writeString(output, device.getSerialNumber());
+		List<String> macAddresses = device.getMacAddresses();
+		output.writeInt(macAddresses == null ? -1 : macAddresses.size());
+		if (macAddresses != null) {
+			for (String macAddress : macAddresses) {
+				writeString(output, macAddress);
+			}
+		}
+		Map<String, String> properties = device.getProperties();
+		output.writeInt(properties == null ? -1 : properties.size());
+		if (properties != null) {
+			for (Map.Entry<String, String> property : properties.entrySet()) {
+				writeString(output, property.getKey());
+				writeString(output, property.getValue());
+			}
+		}
+		List<LinkedDevice> linkedDevices = cachedDevice.getLinkedDevices();
+		output.writeInt(linkedDevices == null ? -1 : linkedDevices.size());
+		if (linkedDevices != null) {
+			for (LinkedDevice linkedDevice : linkedDevices) {
+				writeString(output, linkedDevice.getName());
+				writeString(output, linkedDevice.getMacAddress());
+				writeString(output, linkedDevice.getSoftwareVersion());
+			}
+		}
+		List<Entitlement> entitlements = cachedDevice.getEntitlements();
+		output.writeInt(entitlements == null ? -1 : entitlements.size());
+		if (entitlements != null) {
+			for (Entitlement entitlement : entitlements) {
+				writeString(output, entitlement.getDate());
+				writeString(output, entitlement.getEndDate());
+				writeString(output, entitlement.getExpired());
+				writeString(output, entitlement.getLicenseKey());
+				writeString(output, entitlement.getProductSerial());
+			}
+		}
+	}
+
+	/**
+	 * Reads a cached aggregated device
+	 *
+	 * @param input input of the file
+	 * @return cached aggregated device
+	 * @throws IOException if the device can't be read
+	 */
+	private CachedAggregatedDevice readDevice(DataInputStream input) throws IOException {
+		AggregatedDevice device = new AggregatedDevice();
+		device.setDeviceId(readString(input));
+		device.setDeviceName(readString(input));
+		device.setDeviceModel(readString(input));
+		byte online = input.readByte();
+		device.setDeviceOnline(online < 0 ? null : online == 1);
+		device.setSerialNumber(readString(input));
+		int macAddressCount = input.readInt();
+		if (macAddressCount >= 0) {
+			List<String> macAddresses = new ArrayList<>(checkSize(macAddressCount));
+			for (int i = 0; i < macAddressCount; i++) {
+				macAddresses.add(readString(input));
+			}
+			device.setMacAddresses(macAddresses);
+		}
+		int propertyCount = input.readInt();
+		if (propertyCount >= 0) {
+			Map<String, String> properties = new HashMap<>(checkSize(propertyCount) * 4 / 3 + 1);
+			for (int i = 0; i < propertyCount; i++) {
+				properties.put(readString(input), readString(input));
+			}
+			device.setProperties(new CompactPropertyMap(propertySchema, properties));
+		}
+		CachedAggregatedDevice cachedDevice = new CachedAggregatedDevice(device);
+		int linkedDeviceCount = input.readInt();
+		if (linkedDeviceCount >= 0) {
+			List<LinkedDevice> linkedDevices = new ArrayList<>(checkSize(linkedDeviceCount));
+			for (int i = 0; i < linkedDeviceCount; i++) {
+				LinkedDevice linkedDevice = new LinkedDevice();
+				linkedDevice.setName(readString(input));
+				linkedDevice.setMacAddress(readString(input));
+				linkedDevice.setSoftwareVersion(readString(input));
+				linkedDevices.add(linkedDevice);
+			}
+			cachedDevice.setLinkedDevices(linkedDevices);
+		}
+		int entitlementCount = input.readInt();
+		if (entitlementCount >= 0) {
+			List<Entitlement> entitlements = new ArrayList<>(checkSize(entitlementCount));
+			for (int i = 0; i < entitlementCount; i++) {
+				Entitlement entitlement = new Entitlement();
+				entitlement.setDate(readString(input));
+				entitlement.setEndDate(readString(input));
+				entitlement.setExpired(readString(input));
+				entitlement.setLicenseKey(readString(input));
+				entitlement.setProductSerial(readString(input));
+				entitlements.add(entitlement);
+			}
+			cachedDevice.setEntitlements(entitlements);
+		}
+		return cachedDevice;
+	}
+
+	/**
+	 * Writes a string, prefixed with its length in bytes, -1 for null
+	 *
+	 * @param output output of the file
+	 * @param value string to write
+	 * @throws IOException if the string can't be written
+	 */
+	private static void writeString(DataOutputStream output, String value) throws IOException {
+		if (value == null) {
+			output.writeInt(-1);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		output.writeInt(bytes.length);
+		output.write(bytes);
+	}
+
+	/**
+	 * Reads a string written by {@link #writeString(DataOutputStream, String)}
+	 *
+	 * @param input input of the file
+	 * @return string read, null if null was written
+	 * @throws IOException if the string can't be read
+	 */
+	private static String readString(DataInputStream input) throws IOException {
+		int length = input.readInt();
+		if (length < 0) {
+			return null;
+		}
+		byte[] bytes = new byte[checkSize(length)];
+		input.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Reads a number of elements
+	 *
+	 * @param input input of the file
+	 * @return number of elements
+	 * @throws IOException if the number can't be read or is not valid
+	 */
+	private static int readSize(DataInputStream input) throws IOException {
+		int size = input.readInt();
+		if (size < 0) {
+			throw new IOException("The device cache file is corrupted, invalid size " + size);
+		}
+		return checkSize(size);
+	}
+
+	/**
+	 * Checks that a size read from the file is sensible, so that a corrupted file does not allocate huge arrays
+	 *
+	 * @param size size read from the file
+	 * @return size
+	 * @throws IOException if the size is too large
+	 */
+	private static int checkSize(int size) throws IOException {
+		if (size > PolyLensConstant.DEVICE_CACHE_MAX_ELEMENT_SIZE) {
+			throw new IOException("The device cache file is corrupted, invalid size " + size);
+		}
+		return size;
+	}
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.polycom.lens.common;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.dto.DeviceSearchPage;
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.dto.system.QueryCost;
+
+/**
+ * DeviceSearchPageReader reads deviceSearch responses with a streaming {@link JsonParser} instead of a full JsonNode tree.
+ * The paging information is read by skipping over the edges, and the device nodes are then streamed one at a time,
+ * so that at most one device node is materialized at once.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.4
+ */
+public class DeviceSearchPageReader {
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * DeviceSearchPageReader instantiation
+	 *
+	 * @param objectMapper object mapper used to create parsers and to read the nodes
+	 */
+	public DeviceSearchPageReader(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * Reads the paging information of a deviceSearch response: nextToken, calculateQueryCost and errors
+	 *
+	 * @param content raw deviceSearch response
+	 * @return paging information of the page
+	 * @throws IOException if the response is not valid JSON
+	 */
+	public DeviceSearchPage readPageInfo(byte[] content) throws IOException {
+		DeviceSearchPage page = new DeviceSearchPage();
+		try (JsonParser parser = objectMapper.createParser(content)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				return page;
+			}
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.currentName();
+				JsonToken value = parser.nextToken();
+				if (PolyLensConstant.DATA.equals(field) && value == JsonToken.START_OBJECT) {
+					readData(parser, page);
+				} else if (PolyLensConstant.ERRORS.equals(field) && value != JsonToken.VALUE_NULL) {
+					page.setErrors(parser.readValueAsTree().toString());
+				} else {
+					parser.skipChildren();
+				}
+			}
+		}
+		return page;
+	}
+
+	/**
+	 * Streams the device nodes of a deviceSearch response
+	 *
+	 * @param content raw deviceSearch response
+	 * @param nodeConsumer consumer of every edge node
+	 * @return number of nodes read
+	 * @throws IOException if the response is not valid JSON
+	 */
+	public int readNodes(byte[] content, Consumer<JsonNode> nodeConsumer) throws IOException {
+		int count = 0;
+		try (JsonParser parser = objectMapper.createParser(content)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT || !moveToObjectField(parser, PolyLensConstant.DATA)
+					|| !moveToObjectField(parser, PolyLensConstant.DEVICE_SEARCH) || !moveToField(parser, PolyLensConstant.EDGES)
+					|| parser.currentToken() != JsonToken.START_ARRAY) {
+				return count;
+			}
+			while (parser.nextToken() == JsonToken.START_OBJECT) {
+				while (parser.nextToken() == JsonToken.FIELD_NAME) {
+					String field = parser.currentName();
+					JsonToken value = parser.nextToken();
+					if (PolyLensConstant.NODE.equals(field) && value == JsonToken.START_OBJECT) {
+						JsonNode node = parser.readValueAsTree();
+						nodeConsumer.accept(node);
+						count++;
+					} else {
+						parser.skipChildren();
+					}
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Reads the data object of a deviceSearch response
+	 *
+	 * @param parser parser positioned on the start of the data object
+	 * @param page paging information to fill
+	 * @throws IOException if the response is not valid JSON
+	 */
+	private void readData(JsonParser parser, DeviceSearchPage page) throws IOException {
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			JsonToken value = parser.nextToken();
+			if (PolyLensConstant.DEVICE_SEARCH.equals(field) && value == JsonToken.START_OBJECT) {
+				page.setFound(true);
+				readDeviceSearch(parser, page);
+			} else if (PolyLensConstant.CALCULATE_QUERY_COST.equals(field) && value == JsonToken.START_OBJECT) {
+				page.setQueryCost(parser.readValueAs(QueryCost.class));
+			} else {
+				parser.skipChildren();
+			}
+		}
+	}
+
+	/**
+	 * Reads the pageInfo of a deviceSearch object, the edges are skipped
+	 *
+	 * @param parser parser positioned on the start of the deviceSearch object
+	 * @param page paging information to fill
+	 * @throws IOException if the response is not valid JSON
+	 */
+	private void readDeviceSearch(JsonParser parser, DeviceSearchPage page) throws IOException {
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			JsonToken value = parser.nextToken();
+			if (PolyLensConstant.PAGE_INFO.equals(field) && value == JsonToken.START_OBJECT) {
+				while (parser.nextToken() == JsonToken.FIELD_NAME) {
+					String pageInfoField = parser.currentName();
+					JsonToken pageInfoValue = parser.nextToken();
+					if (PolyLensConstant.NEXT_TOKEN.equals(pageInfoField) && pageInfoValue == JsonToken.VALUE_STRING) {
+						page.setNextToken(parser.getText());
+					} else {
+						parser.skipChildren();
+					}
+				}
+			} else {
+				parser.skipChildren();
+			}
+		}
+	}
+
+	/**
+	 * Moves the parser to the value of an object field of the current object, skipping the other fields
+	 *
+	 * @param parser parser positioned inside an object
+	 * @param name name of the field
+	 * @return true if the field was found and its value is an object
+	 * @throws IOException if the response is not valid JSON
+	 */
+	private boolean moveToObjectField(JsonParser parser, String name) throws IOException {
+		return moveToField(parser, name) && parser.currentToken() == JsonToken.START_OBJECT;
+	}
+
+	/**
+	 * Moves the parser to the value of a field of the current object, skipping the other fields
+	 *
+	 * @param parser parser positioned inside an object
+	 * @param name name of the field
+	 * @return true if the field was found
+	 * @throws IOException if the response is not valid JSON
+	 */
+	private boolean moveToField(JsonParser parser, String name) throws IOException {
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			parser.nextToken();
+			if (name.equals(field)) {
+				return true;
+			}
+			parser.skipChildren();
+		}
+		return false;
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.polycom.lens.common;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+
+/**
+ * DeviceSnapshot is an immutable view of the aggregated devices built by the device data loader.
+ * A new snapshot is published every few processed pages and at the end of every cycle, Symphony reads the latest one without locking or copying.
+ * Devices are indexed by id.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.4
+ */
+public class DeviceSnapshot {
+	/**
+	 * Snapshot without any device, used until the first page is processed
+	 */
+	public static final DeviceSnapshot EMPTY = new DeviceSnapshot(Collections.emptyList());
+
+	private final List<AggregatedDevice> devices;
+	private final Map<String, AggregatedDevice> devicesById;
+
+	/**
+	 * DeviceSnapshot instantiation
+	 *
+	 * @param devices fully populated aggregated devices, the collection is copied
+	 */
+	public DeviceSnapshot(Collection<AggregatedDevice> devices) {
+		this.devices = Collections.unmodifiableList(new ArrayList<>(devices));
+		Map<String, AggregatedDevice> byId = new HashMap<>(this.devices.size() * 4 / 3 + 1);
+		for (AggregatedDevice device : this.devices) {
+			byId.put(device.getDeviceId(), device);
+		}
+		this.devicesById = Collections.unmodifiableMap(byId);
+	}
+
+	/**
+	 * Retrieves {@link #devices}
+	 *
+	 * @return unmodifiable list of aggregated devices
+	 */
+	public List<AggregatedDevice> getDevices() {
+		return devices;
+	}
+
+	/**
+	 * Retrieves an aggregated device by id
+	 *
+	 * @param deviceId id of the device
+	 * @return aggregated device, or null if the snapshot does not contain it
+	 */
+	public AggregatedDevice getDevice(String deviceId) {
+		return deviceId == null ? null : devicesById.get(deviceId);
+	}
+
+	/**
+	 * Retrieves the aggregated devices of the given ids, ids that the snapshot does not contain are skipped
+	 *
+	 * @param deviceIds ids of the devices
+	 * @return list of aggregated devices, in the order of the requested ids
+	 */
+	public List<AggregatedDevice> getDevices(Collection<String> deviceIds) {
+		if (deviceIds == null || deviceIds.isEmpty()) {
+			return Collections.emptyList();
+		}
+		List<AggregatedDevice> result = new ArrayList<>(Math.min(deviceIds.size(), devices.size()));
+		for (String deviceId : new LinkedHashSet<>(deviceIds)) {
+			AggregatedDevice device = getDevice(deviceId);
+			if (device != null) {
+				result.add(device);
+			}
+		}
+		return result;
+	}
+}
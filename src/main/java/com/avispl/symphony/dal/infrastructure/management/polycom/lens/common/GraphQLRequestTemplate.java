@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.polycom.lens.common;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * GraphQLRequestTemplate holds the body of a deviceSearch request serialized once, split around its {@link PolyLensConstant#VARIABLES} placeholder.
+ * The variables (filter, page size and next token) are written straight into a per-thread buffer between the two parts,
+ * instead of replacing the placeholder and the null next token in the whole query string for every page.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.4
+ */
+public class GraphQLRequestTemplate {
+	private static final byte[] PARAMS_START = bytes(PolyLensConstant.VARIABLES_FILTERING + "{\"" + PolyLensConstant.PARAMS + "\":{\"" + PolyLensConstant.PAGE_SIZE + "\":");
+	private static final byte[] NEXT_TOKEN = bytes(",\"" + PolyLensConstant.NEXT_TOKEN + "\":");
+	private static final byte[] FILTER = bytes(",\"" + PolyLensConstant.FILTER + "\":");
+	private static final byte[] SORT = bytes(",\"" + PolyLensConstant.SORT + "\":" + createSortNode() + "}}");
+	private static final byte[] NULL = bytes(PolyLensConstant.NULL);
+	private static final byte[] QUOTES = bytes(PolyLensConstant.QUOTES);
+	private static final ThreadLocal<ByteArrayOutputStream> BUFFER = ThreadLocal.withInitial(() -> new ByteArrayOutputStream(PolyLensConstant.REQUEST_BUFFER_SIZE));
+
+	private final byte[] prefix;
+	private final byte[] suffix;
+
+	/**
+	 * GraphQLRequestTemplate instantiation
+	 *
+	 * @param command body of the request, containing the {@link PolyLensConstant#VARIABLES} placeholder
+	 */
+	public GraphQLRequestTemplate(String command) {
+		int index = command.indexOf(PolyLensConstant.VARIABLES);
+		if (index < 0) {
+			throw new IllegalArgumentException("The request has no variables placeholder");
+		}
+		prefix = bytes(command.substring(0, index));
+		suffix = bytes(command.substring(index + PolyLensConstant.VARIABLES.length()));
+	}
+
+	/**
+	 * Builds the body of the request
+	 *
+	 * @param filter serialized filter of the request
+	 * @param pageSize number of devices per page
+	 * @param nextToken token of the page to fetch, null for the first page
+	 * @return body of the request
+	 */
+	public byte[] build(byte[] filter, int pageSize, String nextToken) {
+		ByteArrayOutputStream buffer = BUFFER.get();
+		buffer.reset();
+		write(buffer, prefix);
+		write(buffer, PARAMS_START);
+		write(buffer, bytes(Integer.toString(pageSize)));
+		write(buffer, NEXT_TOKEN);
+		if (nextToken == null) {
+			write(buffer, NULL);
+		} else {
+			write(buffer, QUOTES);
+			write(buffer, JsonStringEncoder.getInstance().quoteAsUTF8(nextToken));
+			write(buffer, QUOTES);
+		}
+		write(buffer, FILTER);
+		write(buffer, filter);
+		write(buffer, SORT);
+		write(buffer, suffix);
+		byte[] body = buffer.toByteArray();
+		if (buffer.size() > PolyLensConstant.REQUEST_BUFFER_SIZE * 4) {
+			BUFFER.remove();
+		}
+		return body;
+	}
+
+	/**
+	 * Writes bytes into the buffer
+	 *
+	 * @param buffer buffer of the request
+	 * @param bytes bytes to write
+	 */
+	private static void write(ByteArrayOutputStream buffer, byte[] bytes) {
+		buffer.write(bytes, 0, bytes.length);
+	}
+
+	/**
+	 * Encodes a string in UTF-8
+	 *
+	 * @param value string to encode
+	 * @return encoded string
+	 */
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Creates the "sort" field of the request, devices are sorted by id
+	 *
+	 * @return sort node
+	 */
+	private static ObjectNode createSortNode() {
+		ObjectNode sortNode = JsonNodeFactory.instance.objectNode();
+		ObjectNode fieldNode = sortNode.putArray(PolyLensConstant.FIELDS).addObject();
+		fieldNode.put(PolyLensConstant.FIELD_NAME, PolyLensConstant.ID);
+		fieldNode.put(PolyLensConstant.DIRECTION, PolyLensConstant.ASC);
+		return sortNode;
+	}
+}
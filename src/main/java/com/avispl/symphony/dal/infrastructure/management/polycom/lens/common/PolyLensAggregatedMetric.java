@@ -12,58 +12,61 @@ package com.avispl.symphony.dal.infrastructure.management.polycom.lens.common;
  * @since 1.0.0
  */
 public enum PolyLensAggregatedMetric {
-	SUPPORTS_SETTINGS(PolyLensConstant.SUPPORTS_SETTINGS),
-	SUPPORTS_SOFTWARE_UPDATE(PolyLensConstant.SUPPORTS_SOFTWARE_UPDATE),
-	CALL_STATUS(PolyLensConstant.CALL_STATUS),
-	TAGS(PolyLensConstant.TAGS),
-	E_TAG(PolyLensConstant.E_TAG),
-	TENANT_ID(PolyLensConstant.TENANT_ID),
-	PRODUCT_ID(PolyLensConstant.PRODUCT_ID),
-	ORGANIZATION(PolyLensConstant.ORGANIZATION),
-	MANUFACTURER(PolyLensConstant.MANUFACTURER),
-	HARDWARE_FAMILY(PolyLensConstant.HARDWARE_FAMILY),
-	HARDWARE_REVISION(PolyLensConstant.HARDWARE_REVISION),
-	SOFTWARE_VERSION(PolyLensConstant.SOFTWARE_VERSION),
-	SOFTWARE_BUILD(PolyLensConstant.SOFTWARE_BUILD),
-	EXTERNAL_IP(PolyLensConstant.EXTERNAL_IP),
-	INTERNAL_IP(PolyLensConstant.INTERNAL_IP),
-	MAC(PolyLensConstant.MAC),
-	ACTIVE_APPLICATION_NAME(PolyLensConstant.ACTIVE_APPLICATION_NAME),
-	ACTIVE_APPLICATION_VERSION(PolyLensConstant.ACTIVE_APPLICATION_VERSION),
-	PROVISIONING_ENABLED(PolyLensConstant.PROVISIONING_ENABLED),
-	LAST_CONFIG_REQUEST_DATE(PolyLensConstant.LAST_CONFIG_REQUEST_DATE),
-	LAST_DETECTED(PolyLensConstant.LAST_DETECTED),
-	SHIPMENT_DATE(PolyLensConstant.SHIPMENT_DATE),
-	HARDWARE_PRODUCT(PolyLensConstant.HARDWARE_PRODUCT),
-	PROXY_AGENT(PolyLensConstant.PROXY_AGENT),
-	PROXY_AGENT_ID(PolyLensConstant.PROXY_AGENT_ID),
-	PROXY_AGENT_VERSION(PolyLensConstant.PROXY_AGENT_VERSION),
-	USB_PRODUCT_ID(PolyLensConstant.USB_PRODUCT_ID),
-	USB_VENDOR_ID(PolyLensConstant.USB_VENDOR_ID),
-	DATE_REGISTERED(PolyLensConstant.DATE_REGISTERED),
-	HAS_PERIPHERALS(PolyLensConstant.HAS_PERIPHERALS),
-	ALL_PERIPHERALS_LINKS(PolyLensConstant.ALL_PERIPHERALS_LINKS),
-	IN_VIRTUAL_DEVICE(PolyLensConstant.IN_VIRTUAL_DEVICE),
-	USER_NAME(PolyLensConstant.USER_NAME),
-	ROOM_NAME(PolyLensConstant.ROOM_NAME),
-	SITE_NAME(PolyLensConstant.SITE_NAME),
-	MODEL(PolyLensConstant.MODEL),
-	SYSTEM_STATUS(PolyLensConstant.SYSTEM_STATUS),
-	LOCATION(PolyLensConstant.LOCATION),
-	BANDWIDTH(PolyLensConstant.BANDWIDTH),
-	LINKED_DEVICES(PolyLensConstant.LINKED_DEVICES),
-	ENTITLEMENTS(PolyLensConstant.ENTITLEMENTS),
+	SUPPORTS_SETTINGS(PolyLensConstant.SUPPORTS_SETTINGS, "supportsSettings"),
+	SUPPORTS_SOFTWARE_UPDATE(PolyLensConstant.SUPPORTS_SOFTWARE_UPDATE, "supportsSoftwareUpdate"),
+	CALL_STATUS(PolyLensConstant.CALL_STATUS, "callStatus"),
+	TAGS(PolyLensConstant.TAGS, "tags"),
+	E_TAG(PolyLensConstant.E_TAG, "etag"),
+	TENANT_ID(PolyLensConstant.TENANT_ID, "tenantId"),
+	PRODUCT_ID(PolyLensConstant.PRODUCT_ID, "productId"),
+	ORGANIZATION(PolyLensConstant.ORGANIZATION, "organization"),
+	MANUFACTURER(PolyLensConstant.MANUFACTURER, "manufacturer"),
+	HARDWARE_FAMILY(PolyLensConstant.HARDWARE_FAMILY, "hardwareFamily"),
+	HARDWARE_REVISION(PolyLensConstant.HARDWARE_REVISION, "hardwareRevision"),
+	SOFTWARE_VERSION(PolyLensConstant.SOFTWARE_VERSION, "softwareVersion"),
+	SOFTWARE_BUILD(PolyLensConstant.SOFTWARE_BUILD, "softwareBuild"),
+	EXTERNAL_IP(PolyLensConstant.EXTERNAL_IP, "externalIp"),
+	INTERNAL_IP(PolyLensConstant.INTERNAL_IP, "internalIp"),
+	MAC(PolyLensConstant.MAC, PolyLensConstant.EMPTY),
+	ACTIVE_APPLICATION_NAME(PolyLensConstant.ACTIVE_APPLICATION_NAME, "activeApplicationName"),
+	ACTIVE_APPLICATION_VERSION(PolyLensConstant.ACTIVE_APPLICATION_VERSION, "activeApplicationVersion"),
+	PROVISIONING_ENABLED(PolyLensConstant.PROVISIONING_ENABLED, "provisioningEnabled"),
+	LAST_CONFIG_REQUEST_DATE(PolyLensConstant.LAST_CONFIG_REQUEST_DATE, "lastConfigRequestDate"),
+	LAST_DETECTED(PolyLensConstant.LAST_DETECTED, "lastDetected"),
+	SHIPMENT_DATE(PolyLensConstant.SHIPMENT_DATE, "shipmentDate"),
+	HARDWARE_PRODUCT(PolyLensConstant.HARDWARE_PRODUCT, "hardwareProduct"),
+	PROXY_AGENT(PolyLensConstant.PROXY_AGENT, "proxyAgent"),
+	PROXY_AGENT_ID(PolyLensConstant.PROXY_AGENT_ID, "proxyAgentId"),
+	PROXY_AGENT_VERSION(PolyLensConstant.PROXY_AGENT_VERSION, "proxyAgentVersion"),
+	USB_PRODUCT_ID(PolyLensConstant.USB_PRODUCT_ID, "usbProductId"),
+	USB_VENDOR_ID(PolyLensConstant.USB_VENDOR_ID, "usbVendorId"),
+	DATE_REGISTERED(PolyLensConstant.DATE_REGISTERED, "dateRegistered"),
+	HAS_PERIPHERALS(PolyLensConstant.HAS_PERIPHERALS, "hasPeripherals"),
+	ALL_PERIPHERALS_LINKS(PolyLensConstant.ALL_PERIPHERALS_LINKS, "allPeripheralsLinked"),
+	IN_VIRTUAL_DEVICE(PolyLensConstant.IN_VIRTUAL_DEVICE, "inVirtualDevice"),
+	USER_NAME(PolyLensConstant.USER_NAME, PolyLensQueries.USER_SELECTION),
+	ROOM_NAME(PolyLensConstant.ROOM_NAME, PolyLensQueries.ROOM_SELECTION),
+	SITE_NAME(PolyLensConstant.SITE_NAME, PolyLensQueries.SITE_SELECTION),
+	MODEL(PolyLensConstant.MODEL, PolyLensQueries.MODEL_SELECTION),
+	SYSTEM_STATUS(PolyLensConstant.SYSTEM_STATUS, PolyLensQueries.SYSTEM_STATUS_SELECTION),
+	LOCATION(PolyLensConstant.LOCATION, PolyLensQueries.LOCATION_SELECTION),
+	BANDWIDTH(PolyLensConstant.BANDWIDTH, PolyLensQueries.BANDWIDTH_SELECTION),
+	LINKED_DEVICES(PolyLensConstant.LINKED_DEVICES, PolyLensQueries.CONNECTIONS_SELECTION),
+	ENTITLEMENTS(PolyLensConstant.ENTITLEMENTS, PolyLensQueries.ENTITLEMENTS_SELECTION),
 	;
 	private final String name;
+	private final String selection;
 
 	/**
 	 * Represents an aggregated metric in the PolyLens system.
-	 * This class is used to store the name of the metric.
+	 * This class is used to store the name of the metric and the deviceSearch fields it is mapped from.
 	 *
 	 * @param name the name of the aggregated metric
+	 * @param selection the GraphQL selection of the metric, empty if its field is always selected
 	 */
-	PolyLensAggregatedMetric(String name) {
+	PolyLensAggregatedMetric(String name, String selection) {
 		this.name = name;
+		this.selection = selection;
 	}
 
 	/**
@@ -74,4 +77,13 @@ public enum PolyLensAggregatedMetric {
 	public String getName() {
 		return name;
 	}
+
+	/**
+	 * Retrieves {@link #selection}
+	 *
+	 * @return value of {@link #selection}
+	 */
+	public String getSelection() {
+		return selection;
+	}
 }
@@ -34,7 +34,10 @@ public class PolyLensConstant {
 	public static final String MODEL_MAPPING_AGGREGATED_DEVICE = "polylens/model-mapping.yml";
 	public static final String URI_POLY_LENS = "graphql";
 	public static final String DATA = "data";
+	public static final String ERRORS = "errors";
 	public static final String DEVICE_SEARCH = "deviceSearch";
+	public static final String DEVICE_COUNT = "deviceCount";
+	public static final String CALCULATE_QUERY_COST = "calculateQueryCost";
 	public static final String EDGES = "edges";
 	public static final String NODE = "node";
 	public static final String ID = "id";
@@ -42,6 +45,17 @@ public class PolyLensConstant {
 	public static final String NAME = "Name";
 	public static final String MODEL_GROUP = "Model#";
 	public static final String QUERY_COST_GROUP = "QueryCost#";
+	public static final String QUERY_COST_LIMITER_GROUP = "QueryCostLimiter#";
+	public static final String AVAILABLE_COST = "AvailableCost";
+	public static final String RESERVED_COST = "ReservedControlCost";
+	public static final String WAITING_REQUESTS = "WaitingRequests";
+	public static final String THROTTLED_REQUESTS = "ThrottledRequests";
+	public static final String REJECTED_REQUESTS = "RejectedRequests";
+	public static final String BULK_REBOOT_GROUP = "BulkReboot#";
+	public static final String REQUESTED_DEVICES = "LastRequestedDevices";
+	public static final String REBOOTED_DEVICES = "LastRebootedDevices";
+	public static final String FAILED_DEVICES = "LastFailedDevices";
+	public static final String BULK_REBOOT_DURATION = "LastDuration(ms)";
 	public static final String SYSTEM_STATUS_GROUP = "SystemStatus#";
 	public static final String LINKED_DEVICE_GROUP = "LinkedDevice#";
 	public static final String LOCATION_GROUP = "Location#";
@@ -125,6 +139,8 @@ public class PolyLensConstant {
 	public static final String BANDWIDTH = "BandWidth";
 	public static final String LINKED_DEVICES = "LinkedDevices";
 	public static final String ENTITLEMENTS = "Entitlements";
+	public static final String CONNECTIONS_FIELD = "connections";
+	public static final String ENTITLEMENTS_FIELD = "entitlements";
 	public static final int GRACE_PERIOD = 0;
 	public static final String REBOOT = "Reboot";
 	public static final String REBOOTING = "Rebooting";
@@ -151,6 +167,11 @@ public class PolyLensConstant {
 	public static final String FIELDS = "fields";
 	public static final String ASC = "ASC";
 	public static final String AGGREGATED_DEVICES = "AggregatedDevices";
+	public static final String DEVICE_CHANGES = "DeviceChanges";
+	public static final String ETAG = "etag";
+	public static final String CONNECTED = "connected";
+	public static final String LAST_DETECTED_FIELD = "lastDetected";
+	public static final String CALL_STATUS_FIELD = "callStatus";
 	public static final String RESTART_DEVICE = "rebootDevice";
 	public static final String SUCCESS = "success";
 	public static final String ERROR = "error";
@@ -165,7 +186,6 @@ public class PolyLensConstant {
 	public static final String OR = "OR";
 	public static final String AND = "AND";
 	public static final String NOT = "NOT";
-	public static final String SSL = "SSL";
 	public static final String NOT_SET = "Not Set";
 	public static final String UNKNOWN = "Unknown";
 	public static final String VARIABLES = "$variables";
@@ -173,9 +193,45 @@ public class PolyLensConstant {
 	public static final String UTC = "UTC";
 	public static final String ZERO = "0";
 	public static final int MAXIMUM_NUMBER_OF_DEVICES = 99;
-	public static final int ONE_THREAD = 1;
-	public static final int TWO_THREADS = 2;
+	public static final int MINIMUM_NUMBER_OF_DEVICES = 20;
+	public static final double PLENTIFUL_QUERY_COST_RATIO = 0.5;
+	public static final long MAXIMUM_PAGE_REQUEST_DELAY = 10000L;
+	public static final double CONTROL_QUERY_COST_RESERVE_RATIO = 0.1;
+	public static final long DEFAULT_QUERY_COST_RESET_WINDOW = 60000L;
+	public static final long MONITORING_QUERY_COST_TIMEOUT = 30000L;
+	public static final long CONTROL_QUERY_COST_TIMEOUT = 10000L;
+	public static final int DEFAULT_SYSTEM_INFORMATION_REFRESH_INTERVAL = 300;
+	public static final String FIELD_PROFILE_MINIMAL = "Minimal";
+	public static final String FIELD_PROFILE_STANDARD = "Standard";
+	public static final String FIELD_PROFILE_FULL = "Full";
+	public static final int SYSTEM_INFORMATION_MAX_AGE_FACTOR = 3;
+	public static final int PAGE_PROCESSING_THREADS = 2;
+	public static final int MAX_CONNECTIONS_PER_ROUTE = 8;
+	public static final int MAX_CONNECTIONS_TOTAL = 16;
+	public static final int CONNECTIONS_MAX_IDLE_TIME = 60000;
+	public static final int PAGE_PROCESSING_QUEUE_SIZE = 2;
+	public static final int SNAPSHOT_PUBLISH_PAGE_INTERVAL = 10;
 	public static final int HALF_AN_HOUR = 1800;
+	public static final int DEFAULT_REBOOT_BATCH_SIZE = 10;
+	public static final int DEFAULT_REBOOT_CONCURRENCY = 4;
+	public static final String REBOOT_THREAD_NAME = "PolyLens-reboot-";
+	public static final String BULK_REBOOT_ALIAS = "device";
+	public static final String QUERY = "query";
+	public static final String VARIABLES_FIELD = "variables";
+	public static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+	public static final long FNV_PRIME = 0x100000001b3L;
+	public static final String LAST_MONITORING_CYCLE_CHANGED_DEVICES = "LastMonitoringCycleChangedDevices";
+	public static final String LAST_MONITORING_CYCLE_UNCHANGED_DEVICES = "LastMonitoringCycleUnchangedDevices";
+	public static final String DEVICE_CACHE_FILE_PERMISSIONS = "rw-------";
+	public static final String DEVICE_CACHE_DIRECTORY_PERMISSIONS = "rwx------";
+	public static final String POSIX = "posix";
+	public static final String DEVICE_CACHE_FILE_PREFIX = "polylens-device-cache-";
+	public static final String DEVICE_CACHE_FILE_EXTENSION = ".bin";
+	public static final String DEVICE_CACHE_TEMPORARY_EXTENSION = ".tmp";
+	public static final int DEVICE_CACHE_FORMAT_VERSION = 1;
+	public static final int DEVICE_CACHE_MAX_ELEMENT_SIZE = 64 * 1024 * 1024;
+	public static final double TOKEN_REFRESH_RATIO = 0.8;
+	public static final long TOKEN_REFRESH_RETRY_DELAY = 30000L;
 	public static final String COMMA = ",";
 	public static final String DOT = ".";
 	public static final String SPACE = " ";
@@ -185,5 +241,10 @@ public class PolyLensConstant {
 	public static final String API = "api";
 	public static final String DEFAULT_FORMAT_DATETIME = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'";
 	public static final String NEW_FORMAT_DATETIME = "EEE MMM dd HH:mm:ss z yyyy";
+	public static final int DATE_TIME_CACHE_SIZE = 1024;
+	public static final int PROPERTY_SCHEMA_MAX_SIZE = 1024;
+	public static final int REQUEST_BUFFER_SIZE = 8192;
+	public static final int PROPERTY_VALUE_POOL_SIZE = 8192;
+	public static final int PROPERTY_VALUE_MAX_INTERNED_LENGTH = 64;
 	public static final String NOT_AVAILABLE = "N/A";
 }
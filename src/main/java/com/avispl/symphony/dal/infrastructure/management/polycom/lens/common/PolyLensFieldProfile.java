@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.polycom.lens.common;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * PolyLensFieldProfile contains the sets of aggregated device metrics that can be requested from deviceSearch.
+ * A smaller profile trims the selection set of the query, which reduces the response size and the query cost per device.
+ * {@link PolyLensAggregatedMetric#CALL_STATUS}, {@link PolyLensAggregatedMetric#E_TAG} and {@link PolyLensAggregatedMetric#LAST_DETECTED}
+ * are part of every profile, they are needed for the in call state and the incremental refresh.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.4
+ */
+public enum PolyLensFieldProfile {
+	MINIMAL(PolyLensConstant.FIELD_PROFILE_MINIMAL, EnumSet.of(PolyLensAggregatedMetric.ROOM_NAME, PolyLensAggregatedMetric.SITE_NAME)),
+	STANDARD(PolyLensConstant.FIELD_PROFILE_STANDARD, EnumSet.of(PolyLensAggregatedMetric.ROOM_NAME, PolyLensAggregatedMetric.SITE_NAME,
+			PolyLensAggregatedMetric.SUPPORTS_SETTINGS, PolyLensAggregatedMetric.SUPPORTS_SOFTWARE_UPDATE, PolyLensAggregatedMetric.TAGS,
+			PolyLensAggregatedMetric.TENANT_ID, PolyLensAggregatedMetric.MANUFACTURER, PolyLensAggregatedMetric.HARDWARE_FAMILY,
+			PolyLensAggregatedMetric.SOFTWARE_VERSION, PolyLensAggregatedMetric.SOFTWARE_BUILD, PolyLensAggregatedMetric.EXTERNAL_IP,
+			PolyLensAggregatedMetric.INTERNAL_IP, PolyLensAggregatedMetric.MAC, PolyLensAggregatedMetric.ACTIVE_APPLICATION_NAME,
+			PolyLensAggregatedMetric.ACTIVE_APPLICATION_VERSION, PolyLensAggregatedMetric.HAS_PERIPHERALS, PolyLensAggregatedMetric.USER_NAME,
+			PolyLensAggregatedMetric.MODEL, PolyLensAggregatedMetric.SYSTEM_STATUS)),
+	FULL(PolyLensConstant.FIELD_PROFILE_FULL, EnumSet.allOf(PolyLensAggregatedMetric.class)),
+	;
+	private final String name;
+	private final Set<PolyLensAggregatedMetric> metrics;
+
+	/**
+	 * Constructs a PolyLensFieldProfile with the provided parameters.
+	 *
+	 * @param name The name of the profile.
+	 * @param metrics The metrics of the profile, on top of the metrics required by every profile.
+	 */
+	PolyLensFieldProfile(String name, Set<PolyLensAggregatedMetric> metrics) {
+		this.name = name;
+		metrics.addAll(getRequiredMetrics());
+		this.metrics = Collections.unmodifiableSet(metrics);
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Retrieves {@link #metrics}
+	 *
+	 * @return value of {@link #metrics}
+	 */
+	public Set<PolyLensAggregatedMetric> getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * Retrieves the metrics that are part of every profile
+	 *
+	 * @return required metrics
+	 */
+	public static Set<PolyLensAggregatedMetric> getRequiredMetrics() {
+		return EnumSet.of(PolyLensAggregatedMetric.CALL_STATUS, PolyLensAggregatedMetric.E_TAG, PolyLensAggregatedMetric.LAST_DETECTED);
+	}
+
+	/**
+	 * Builds the deviceSearch query selecting the fields of the given metrics
+	 *
+	 * @param metrics metrics to select
+	 * @return deviceSearch query, with the {@link PolyLensConstant#VARIABLES} placeholder
+	 */
+	public static String createQuery(Set<PolyLensAggregatedMetric> metrics) {
+		StringBuilder query = new StringBuilder(PolyLensQueries.AGGREGATED_DEVICES_START);
+		for (PolyLensAggregatedMetric metric : metrics) {
+			if (!metric.getSelection().isEmpty()) {
+				query.append(PolyLensConstant.SPACE).append(metric.getSelection());
+			}
+		}
+		return query.append(PolyLensQueries.AGGREGATED_DEVICES_END).toString();
+	}
+
+	/**
+	 * Returns the {@link PolyLensFieldProfile} enum constant with the specified name, ignoring case.
+	 *
+	 * @param name the name of the PolyLensFieldProfile constant to retrieve
+	 * @return the PolyLensFieldProfile constant with the specified name
+	 * @throws IllegalArgumentException if no constant with the specified name is found
+	 */
+	public static PolyLensFieldProfile getByName(String name) {
+		Optional<PolyLensFieldProfile> profile = Arrays.stream(values()).filter(item -> item.getName().equalsIgnoreCase(name.trim())).findFirst();
+		if (profile.isPresent()) {
+			return profile.get();
+		} else {
+			throw new IllegalArgumentException(String.format("field profile %s is not supported.", name));
+		}
+	}
+}
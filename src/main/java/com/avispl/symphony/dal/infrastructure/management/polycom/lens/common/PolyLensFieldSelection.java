@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.polycom.lens.common;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * PolyLensFieldSelection is the immutable pair of the aggregated device metrics selected by the field profile
+ * and of the deviceSearch request selecting their fields, so that both are always read consistently.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.4
+ */
+public final class PolyLensFieldSelection {
+	/**
+	 * Selection of every metric, with the full deviceSearch request
+	 */
+	public static final PolyLensFieldSelection FULL = new PolyLensFieldSelection(PolyLensFieldProfile.FULL.getMetrics());
+
+	private final Set<PolyLensAggregatedMetric> metrics;
+	private final GraphQLRequestTemplate template;
+
+	/**
+	 * PolyLensFieldSelection instantiation
+	 *
+	 * @param metrics selected metrics, the set is copied
+	 */
+	public PolyLensFieldSelection(Set<PolyLensAggregatedMetric> metrics) {
+		this.metrics = Collections.unmodifiableSet(metrics.isEmpty() ? EnumSet.noneOf(PolyLensAggregatedMetric.class) : EnumSet.copyOf(metrics));
+		this.template = metrics.size() == PolyLensAggregatedMetric.values().length ? PolyLensProperties.AGGREGATED_DEVICES.getTemplate()
+				: new GraphQLRequestTemplate(PolyLensFieldProfile.createQuery(this.metrics));
+	}
+
+	/**
+	 * Retrieves {@link #metrics}
+	 *
+	 * @return value of {@link #metrics}
+	 */
+	public Set<PolyLensAggregatedMetric> getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * Retrieves {@link #template}
+	 *
+	 * @return value of {@link #template}
+	 */
+	public GraphQLRequestTemplate getTemplate() {
+		return template;
+	}
+}
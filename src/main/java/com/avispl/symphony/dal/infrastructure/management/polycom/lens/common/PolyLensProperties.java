@@ -15,13 +15,17 @@ import java.util.Optional;
  * @since 1.0.0
  */
 public enum PolyLensProperties {
-	SYSTEM_INFO(PolyLensConstant.SYSTEM_INFO, PolyLensQueries.SYSTEM_INFO, false),
-	AGGREGATED_DEVICES(PolyLensConstant.AGGREGATED_DEVICES, PolyLensQueries.AGGREGATED_DEVICES, false),
-	REBOOT_DEVICE(PolyLensConstant.REBOOT_DEVICE, PolyLensQueries.REBOOT_DEVICE, true),
+	SYSTEM_INFO(PolyLensConstant.SYSTEM_INFO, PolyLensQueries.SYSTEM_INFO, false, 6),
+	AGGREGATED_DEVICES(PolyLensConstant.AGGREGATED_DEVICES, PolyLensQueries.AGGREGATED_DEVICES, false, 1),
+	// id, etag, connected, callStatus and lastDetected only: a small fraction of the fields of AGGREGATED_DEVICES
+	DEVICE_CHANGES(PolyLensConstant.DEVICE_CHANGES, PolyLensQueries.DEVICE_CHANGES, false, 0.1),
+	REBOOT_DEVICE(PolyLensConstant.REBOOT_DEVICE, PolyLensQueries.REBOOT_DEVICE, true, 1),
 	;
 	private final String name;
 	private final String command;
 	private boolean isControl;
+	private final double estimatedCost;
+	private final GraphQLRequestTemplate template;
 
 	/**
 	 * Constructs a PolyLensProperties object with the provided parameters.
@@ -29,11 +33,14 @@ public enum PolyLensProperties {
 	 * @param name The name of the PolyLens property.
 	 * @param command The command associated with the PolyLens property.
 	 * @param isControl A boolean value indicating whether the PolyLens property is a control property.
+	 * @param estimatedCost The estimated query cost of the command, per requested device for device pages.
 	 */
-	PolyLensProperties(String name, String command, boolean isControl) {
+	PolyLensProperties(String name, String command, boolean isControl, double estimatedCost) {
 		this.name = name;
 		this.command = command;
 		this.isControl = isControl;
+		this.estimatedCost = estimatedCost;
+		this.template = command.contains(PolyLensConstant.VARIABLES) ? new GraphQLRequestTemplate(command) : null;
 	}
 
 	/**
@@ -63,6 +70,24 @@ public enum PolyLensProperties {
 		return isControl;
 	}
 
+	/**
+	 * Retrieves {@link #estimatedCost}
+	 *
+	 * @return value of {@link #estimatedCost}
+	 */
+	public double getEstimatedCost() {
+		return estimatedCost;
+	}
+
+	/**
+	 * Retrieves {@link #template}
+	 *
+	 * @return value of {@link #template}, null if the command has no variables placeholder
+	 */
+	public GraphQLRequestTemplate getTemplate() {
+		return template;
+	}
+
 	/**
 	 * Returns the {@link PolyLensProperties} enum constant with the specified name.
 	 *
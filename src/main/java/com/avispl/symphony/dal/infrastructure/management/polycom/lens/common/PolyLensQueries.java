@@ -12,8 +12,23 @@ package com.avispl.symphony.dal.infrastructure.management.polycom.lens.common;
  * @since 1.0.0
  */
 public class PolyLensQueries {
-	public static final String SYSTEM_INFO = "{\"query\":\"query getPoly {\\n  countDevices\\n  calculateQueryCost {\\n    queryCost\\n    costUsed\\n    costRemaining\\n    secondsToReset\\n  }\\n  tenantCount\\n  tenants {\\n    id\\n    name\\n    type\\n    memberCount\\n }\\n}\"}";
-	public static final String AGGREGATED_DEVICES = "{\"query\":\"query allDevices($params: DeviceFindArgs) {\\n  deviceSearch(params: $params) {\\n    edges {\\n      node {\\n        id\\n        supportsSettings\\n        supportsSoftwareUpdate\\n        callStatus\\n        tags\\n        etag\\n        name\\n        tenantId\\n        productId\\n        organization\\n        manufacturer\\n        hardwareFamily\\n        hardwareModel\\n        hardwareRevision\\n        softwareVersion\\n        softwareBuild\\n        externalIp\\n        internalIp\\n        macAddress\\n        serialNumber\\n        connected\\n        activeApplicationName\\n        activeApplicationVersion\\n        provisioningEnabled\\n        lastConfigRequestDate\\n        lastDetected\\n        shipmentDate\\n        hardwareProduct\\n        proxyAgent\\n        proxyAgentId\\n        proxyAgentVersion\\n        usbVendorId\\n        usbProductId\\n        dateRegistered\\n        hasPeripherals\\n        allPeripheralsLinked\\n        inVirtualDevice\\n        user {\\n          name\\n        }\\n        room {\\n          name\\n        }\\n        model {\\n          name\\n          description\\n          hardwareFamily {\\n            name\\n          }\\n          hardwareManufacturer {\\n            name\\n          }\\n        }\\n        site {\\n          name\\n        }\\n        systemStatus {\\n          data {\\n            com {\\n              poly {\\n                device {\\n                  status {\\n                    provisioning {\\n                      state\\n                    }\\n                    globaldirectory {\\n                      state\\n                    }\\n                    ipnetwork {\\n                      state\\n                    }\\n                    trackablecamera {\\n                      state\\n                   }\\n                   camera {\\n                      state\\n                   }\\n                   audio {\\n                      state\\n                   }\\n                   remotecontrol {\\n                     state\\n                   }\\n                   logthreshold {\\n                     state\\n                   }\\n                 }\\n               }\\n             }\\n           }\\n          }\\n        }\\n        connections {\\n          name\\n          macAddress\\n          softwareVersion\\n        }\\n        location {\\n          coordinate {\\n            latitude\\n            longitude\\n          }\\n        }\\n        entitlements {\\n          productSerial\\n          licenseKey\\n          date\\n          endDate\\n          expired\\n        }\\n        bandwidth {\\n          endTime\\n          downloadMbps\\n          pingJitterMs\\n          pingLatencyMs\\n          pingLossPercent\\n          uploadMbps\\n        } \\n      }\\n    }\\n    pageInfo {\\n      totalCount\\n      countOnPage\\n      nextToken\\n      hasNextPage\\n    }\\n  }\\n}\",$variables}";
+	public static final String SYSTEM_INFO = "{\"query\":\"query getPoly($params: DeviceFindArgs) {\\n  calculateQueryCost {\\n    queryCost\\n    costUsed\\n    costRemaining\\n    secondsToReset\\n  }\\n  tenantCount\\n  tenants {\\n    id\\n    name\\n    type\\n    memberCount\\n  }\\n  deviceCount: deviceSearch(params: $params) {\\n    pageInfo {\\n      totalCount\\n    }\\n  }\\n}\",$variables}";
+	public static final String AGGREGATED_DEVICES = "{\"query\":\"query allDevices($params: DeviceFindArgs) {\\n  deviceSearch(params: $params) {\\n    edges {\\n      node {\\n        id\\n        supportsSettings\\n        supportsSoftwareUpdate\\n        callStatus\\n        tags\\n        etag\\n        name\\n        tenantId\\n        productId\\n        organization\\n        manufacturer\\n        hardwareFamily\\n        hardwareModel\\n        hardwareRevision\\n        softwareVersion\\n        softwareBuild\\n        externalIp\\n        internalIp\\n        macAddress\\n        serialNumber\\n        connected\\n        activeApplicationName\\n        activeApplicationVersion\\n        provisioningEnabled\\n        lastConfigRequestDate\\n        lastDetected\\n        shipmentDate\\n        hardwareProduct\\n        proxyAgent\\n        proxyAgentId\\n        proxyAgentVersion\\n        usbVendorId\\n        usbProductId\\n        dateRegistered\\n        hasPeripherals\\n        allPeripheralsLinked\\n        inVirtualDevice\\n        user {\\n          name\\n        }\\n        room {\\n          name\\n        }\\n        model {\\n          name\\n          description\\n          hardwareFamily {\\n            name\\n          }\\n          hardwareManufacturer {\\n            name\\n          }\\n        }\\n        site {\\n          name\\n        }\\n        systemStatus {\\n          data {\\n            com {\\n              poly {\\n                device {\\n                  status {\\n                    provisioning {\\n                      state\\n                    }\\n                    globaldirectory {\\n                      state\\n                    }\\n                    ipnetwork {\\n                      state\\n                    }\\n                    trackablecamera {\\n                      state\\n                   }\\n                   camera {\\n                      state\\n                   }\\n                   audio {\\n                      state\\n                   }\\n                   remotecontrol {\\n                     state\\n                   }\\n                   logthreshold {\\n                     state\\n                   }\\n                 }\\n               }\\n             }\\n           }\\n          }\\n        }\\n        connections {\\n          name\\n          macAddress\\n          softwareVersion\\n        }\\n        location {\\n          coordinate {\\n            latitude\\n            longitude\\n          }\\n        }\\n        entitlements {\\n          productSerial\\n          licenseKey\\n          date\\n          endDate\\n          expired\\n        }\\n        bandwidth {\\n          endTime\\n          downloadMbps\\n          pingJitterMs\\n          pingLatencyMs\\n          pingLossPercent\\n          uploadMbps\\n        } \\n      }\\n    }\\n    pageInfo {\\n      totalCount\\n      countOnPage\\n      nextToken\\n      hasNextPage\\n    }\\n  }\\n  calculateQueryCost {\\n    queryCost\\n    costUsed\\n    costRemaining\\n    secondsToReset\\n  }\\n}\",$variables}";
 	public static final String REBOOT_DEVICE = "{\"query\":\"mutation RebootDevice($deviceId: String!) {\\n  rebootDevice(deviceId: $deviceId) {\\n    success\\n    error\\n  }\\n}\",\"variables\":{\"deviceId\":\"$DeviceId\"}}";
-	public static final String NUMBER_AGGREGATED_DEVICES = "{\"query\":\"query allDevices($params: DeviceFindArgs) {\\n  deviceSearch(params: $params) {\\n    edges {\\n      node {\\n        id\\n           }\\n    }\\n    pageInfo {\\n      totalCount\\n      countOnPage\\n      nextToken\\n      hasNextPage\\n    }\\n  }\\n}\",$variables}";
+	public static final String AGGREGATED_DEVICES_START = "{\"query\":\"query allDevices($params: DeviceFindArgs) { deviceSearch(params: $params) { edges { node { id name hardwareModel connected serialNumber macAddress";
+	public static final String AGGREGATED_DEVICES_END = " } } pageInfo { totalCount countOnPage nextToken hasNextPage } } calculateQueryCost { queryCost costUsed costRemaining secondsToReset } }\",$variables}";
+	public static final String BULK_REBOOT_START = "mutation RebootDevices(";
+	public static final String BULK_REBOOT_VARIABLE = "$%s: String!";
+	public static final String BULK_REBOOT_SELECTION = "%s: rebootDevice(deviceId: $%s) { success error }";
+	public static final String USER_SELECTION = "user { name }";
+	public static final String ROOM_SELECTION = "room { name }";
+	public static final String SITE_SELECTION = "site { name }";
+	public static final String MODEL_SELECTION = "model { name description hardwareFamily { name } hardwareManufacturer { name } }";
+	public static final String SYSTEM_STATUS_SELECTION = "systemStatus { data { com { poly { device { status { provisioning { state } globaldirectory { state } ipnetwork { state } "
+			+ "trackablecamera { state } camera { state } audio { state } remotecontrol { state } logthreshold { state } } } } } } }";
+	public static final String LOCATION_SELECTION = "location { coordinate { latitude longitude } }";
+	public static final String BANDWIDTH_SELECTION = "bandwidth { endTime downloadMbps pingJitterMs pingLatencyMs pingLossPercent uploadMbps }";
+	public static final String CONNECTIONS_SELECTION = "connections { name macAddress softwareVersion }";
+	public static final String ENTITLEMENTS_SELECTION = "entitlements { productSerial licenseKey date endDate expired }";
+	public static final String DEVICE_CHANGES = "{\"query\":\"query allDevices($params: DeviceFindArgs) {\\n  deviceSearch(params: $params) {\\n    edges {\\n      node {\\n        id\\n        etag\\n        connected\\n        callStatus\\n        lastDetected\\n      }\\n    }\\n    pageInfo {\\n      totalCount\\n      countOnPage\\n      nextToken\\n      hasNextPage\\n    }\\n  }\\n  calculateQueryCost {\\n    queryCost\\n    costUsed\\n    costRemaining\\n    secondsToReset\\n  }\\n}\",$variables}";
 }
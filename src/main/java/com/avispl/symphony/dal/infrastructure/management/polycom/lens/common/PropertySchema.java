@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.polycom.lens.common;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PropertySchema is the key schema shared by the {@link CompactPropertyMap} of one adapter instance.
+ * Property names are registered once and given an index, and short values are interned in a bounded pool.
+ * Each adapter instance owns its schemas, so that the maps of an instance only grow with the property names of that instance.
+ * <p>
+ * The schema grows with the property names met, up to {@link PolyLensConstant#PROPERTY_SCHEMA_MAX_SIZE} names.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.4
+ */
+public class PropertySchema implements Serializable {
+	private static final long serialVersionUID = 1L;
+	private final Map<String, Integer> keyIndex = new ConcurrentHashMap<>();
+	private volatile String[] keys = new String[0];
+	private final Map<String, String> valuePool = new ConcurrentHashMap<>();
+
+	/**
+	 * PropertySchema instantiation
+	 *
+	 * @param names property names registered up front
+	 */
+	public PropertySchema(Collection<String> names) {
+		for (String name : names) {
+			indexOf(name, true);
+		}
+	}
+
+	/**
+	 * Retrieves {@link #keys}
+	 *
+	 * @return property names of the schema, by index
+	 */
+	public String[] getKeys() {
+		return keys;
+	}
+
+	/**
+	 * Retrieves the index of a property name in the schema
+	 *
+	 * @param key name of the property
+	 * @param register whether the name is added to the schema when it is not there yet
+	 * @return index of the name, -1 if the name is not in the schema
+	 */
+	public int indexOf(Object key, boolean register) {
+		Integer index = keyIndex.get(key);
+		if (index != null) {
+			return index;
+		}
+		if (!register || !(key instanceof String)) {
+			return -1;
+		}
+		synchronized (keyIndex) {
+			index = keyIndex.get(key);
+			if (index == null) {
+				if (keys.length >= PolyLensConstant.PROPERTY_SCHEMA_MAX_SIZE) {
+					return -1;
+				}
+				String[] newKeys = Arrays.copyOf(keys, keys.length + 1);
+				index = newKeys.length - 1;
+				newKeys[index] = (String) key;
+				keys = newKeys;
+				keyIndex.put((String) key, index);
+			}
+			return index;
+		}
+	}
+
+	/**
+	 * Interns a short value in the value pool, the pool is cleared once it reaches {@link PolyLensConstant#PROPERTY_VALUE_POOL_SIZE} values
+	 *
+	 * @param value value of a property
+	 * @return pooled instance of the value
+	 */
+	public String intern(String value) {
+		if (value.length() > PolyLensConstant.PROPERTY_VALUE_MAX_INTERNED_LENGTH) {
+			return value;
+		}
+		String pooled = valuePool.get(value);
+		if (pooled != null) {
+			return pooled;
+		}
+		if (valuePool.size() >= PolyLensConstant.PROPERTY_VALUE_POOL_SIZE) {
+			valuePool.clear();
+		}
+		pooled = valuePool.putIfAbsent(value, value);
+		return pooled == null ? value : pooled;
+	}
+}
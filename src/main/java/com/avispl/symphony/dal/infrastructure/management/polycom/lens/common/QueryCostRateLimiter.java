@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.polycom.lens.common;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.dto.system.QueryCost;
+
+/**
+ * QueryCostRateLimiter models the Poly Lens query cost budget as a token bucket.
+ * The bucket size and content are synchronized with the calculateQueryCost values reported by Poly Lens, and the bucket
+ * is refilled to its full size once SecondsToReset has elapsed. Every GraphQL request takes its estimated cost out of
+ * the bucket before being sent.
+ * <p>
+ * Control requests have priority over monitoring requests: a share of the budget is reserved for them, and monitoring
+ * requests are held back while a control request is waiting for budget.
+ * <p>
+ * Until the first query cost is known the bucket is considered unlimited.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.4
+ */
+public class QueryCostRateLimiter {
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition costAvailable = lock.newCondition();
+	private long capacity = -1;
+	private long availableCost;
+	private long resetTimestamp;
+	private long resetWindow = PolyLensConstant.DEFAULT_QUERY_COST_RESET_WINDOW;
+	private int waitingControlRequests;
+	private int waitingRequests;
+	private long throttledRequests;
+	private long rejectedRequests;
+
+	/**
+	 * Synchronizes the bucket with the query cost reported by Poly Lens
+	 *
+	 * @param queryCost query cost returned by calculateQueryCost
+	 */
+	public void update(QueryCost queryCost) {
+		if (queryCost == null || queryCost.getCostRemaining() == null) {
+			return;
+		}
+		lock.lock();
+		try {
+			long costRemaining = Math.max(queryCost.getCostRemaining(), 0);
+			long costUsed = queryCost.getCostUsed() == null ? 0 : Math.max(queryCost.getCostUsed(), 0);
+			capacity = costRemaining + costUsed;
+			availableCost = costRemaining;
+			if (queryCost.getSecondsToReset() != null && queryCost.getSecondsToReset() > 0) {
+				resetWindow = Math.max(resetWindow, queryCost.getSecondsToReset() * 1000L);
+				resetTimestamp = System.currentTimeMillis() + queryCost.getSecondsToReset() * 1000L;
+			} else {
+				resetTimestamp = System.currentTimeMillis() + resetWindow;
+			}
+			costAvailable.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Takes the estimated cost of a request out of the bucket, waiting until it is available.
+	 *
+	 * @param cost estimated cost of the request
+	 * @param control whether the request is a control request, which may use the reserved part of the budget
+	 * @param timeout maximum time to wait in milliseconds
+	 * @return true if the cost was acquired, false if the budget did not become available in time
+	 * @throws InterruptedException if the thread is interrupted while waiting
+	 */
+	public boolean acquire(long cost, boolean control, long timeout) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + timeout;
+		lock.lock();
+		try {
+			boolean throttled = false;
+			if (control) {
+				waitingControlRequests++;
+			}
+			waitingRequests++;
+			try {
+				while (!tryAcquire(cost, control)) {
+					if (!throttled) {
+						throttled = true;
+						throttledRequests++;
+					}
+					long waitTime = Math.min(deadline, resetTimestamp) - System.currentTimeMillis();
+					if (System.currentTimeMillis() >= deadline) {
+						rejectedRequests++;
+						return false;
+					}
+					costAvailable.await(Math.max(waitTime, 1L), TimeUnit.MILLISECONDS);
+				}
+				return true;
+			} finally {
+				waitingRequests--;
+				if (control) {
+					waitingControlRequests--;
+					costAvailable.signalAll();
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Retrieves the cost currently available in the bucket
+	 *
+	 * @return available cost, or {@link PolyLensConstant#NONE} if the budget is not known yet
+	 */
+	public String getAvailableCost() {
+		lock.lock();
+		try {
+			refill();
+			return capacity < 0 ? PolyLensConstant.NONE : String.valueOf(availableCost);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Retrieves the part of the budget reserved for control requests
+	 *
+	 * @return reserved cost, or {@link PolyLensConstant#NONE} if the budget is not known yet
+	 */
+	public String getReservedCost() {
+		lock.lock();
+		try {
+			return capacity < 0 ? PolyLensConstant.NONE : String.valueOf(getReserve());
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Retrieves the number of requests currently waiting for budget
+	 *
+	 * @return number of waiting requests
+	 */
+	public int getWaitingRequests() {
+		lock.lock();
+		try {
+			return waitingRequests;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Retrieves the number of requests that had to wait for budget
+	 *
+	 * @return number of throttled requests
+	 */
+	public long getThrottledRequests() {
+		lock.lock();
+		try {
+			return throttledRequests;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Retrieves the number of requests that were not sent because the budget did not become available in time
+	 *
+	 * @return number of rejected requests
+	 */
+	public long getRejectedRequests() {
+		lock.lock();
+		try {
+			return rejectedRequests;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Takes the cost out of the bucket if enough budget is left. Must be called while holding {@link #lock}.
+	 *
+	 * @param cost estimated cost of the request
+	 * @param control whether the request is a control request
+	 * @return true if the cost was taken out of the bucket
+	 */
+	private boolean tryAcquire(long cost, boolean control) {
+		refill();
+		if (capacity < 0) {
+			return true;
+		}
+		long floor = control ? 0 : getReserve();
+		if (!control && waitingControlRequests > 0) {
+			return false;
+		}
+		// a request estimated above the usable budget would otherwise never be sent, it waits for a full bucket instead
+		long usableCost = Math.min(cost, Math.max(capacity - floor, 0));
+		if (availableCost - usableCost < floor) {
+			return false;
+		}
+		availableCost -= usableCost;
+		return true;
+	}
+
+	/**
+	 * Refills the bucket once the reset time has passed, the next reset is expected one reset window later.
+	 * Must be called while holding {@link #lock}.
+	 */
+	private void refill() {
+		long now = System.currentTimeMillis();
+		if (capacity >= 0 && now >= resetTimestamp) {
+			availableCost = capacity;
+			resetTimestamp = now + resetWindow;
+			costAvailable.signalAll();
+		}
+	}
+
+	/**
+	 * Retrieves the part of the budget that monitoring requests are not allowed to use. Must be called while holding {@link #lock}.
+	 *
+	 * @return reserved cost
+	 */
+	private long getReserve() {
+		return (long) Math.ceil(capacity * PolyLensConstant.CONTROL_QUERY_COST_RESERVE_RATIO);
+	}
+}
@@ -1,6 +1,14 @@
 /** Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved. */
 package com.avispl.symphony.dal.infrastructure.management.polycom.lens.common;
 
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
@@ -13,6 +21,14 @@ import org.apache.commons.logging.LogFactory;
  */
 public class Util {
 	private static final Log LOG = LogFactory.getLog(Util.class);
+	private static final DateTimeFormatter INPUT_DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern(PolyLensConstant.DEFAULT_FORMAT_DATETIME, Locale.US).withZone(ZoneOffset.UTC);
+	private static final DateTimeFormatter OUTPUT_DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern(PolyLensConstant.NEW_FORMAT_DATETIME, Locale.US);
+
+	/**
+	 * Recently converted date times, many devices report identical dates. The cache is cleared once it reaches
+	 * {@link PolyLensConstant#DATE_TIME_CACHE_SIZE} entries.
+	 */
+	private static final Map<String, String> convertedDateTimes = new ConcurrentHashMap<>();
 
 	private Util() {
 	}
@@ -74,4 +90,68 @@ public class Util {
 			return PolyLensConstant.NOT_AVAILABLE;
 		}
 	}
+
+	/**
+	 * Converts a Poly Lens date time (e.g. 2023-04-28T09:12:33.123Z) to the display format in the local time zone
+	 * (e.g. Fri Apr 28 09:12:33 UTC 2023).
+	 * <p>
+	 * Formatters are immutable and shared between threads, and recently converted values are served from a bounded cache.
+	 *
+	 * @param dateTime Poly Lens date time
+	 * @return converted date time, {@link PolyLensConstant#NONE} if the date time can't be parsed
+	 */
+	public static String convertFormatDateTime(String dateTime) {
+		if (dateTime == null || PolyLensConstant.NONE.equals(dateTime)) {
+			return PolyLensConstant.NONE;
+		}
+		String outputDateTime = convertedDateTimes.get(dateTime);
+		if (outputDateTime != null) {
+			return outputDateTime;
+		}
+		try {
+			Instant instant = Instant.from(INPUT_DATE_TIME_FORMATTER.parse(dateTime));
+			outputDateTime = OUTPUT_DATE_TIME_FORMATTER.format(instant.atZone(ZoneId.systemDefault()));
+		} catch (Exception e) {
+			LOG.debug(String.format("Unable to parse the datetime %s with format %s.", dateTime, PolyLensConstant.DEFAULT_FORMAT_DATETIME));
+			outputDateTime = PolyLensConstant.NONE;
+		}
+		if (convertedDateTimes.size() >= PolyLensConstant.DATE_TIME_CACHE_SIZE) {
+			convertedDateTimes.clear();
+		}
+		convertedDateTimes.put(dateTime, outputDateTime);
+		return outputDateTime;
+	}
+
+	/**
+	 * Adds a string to a 64-bit FNV-1a hash. Null and empty strings hash differently, and the length is hashed
+	 * so that consecutive strings can't be shifted into each other.
+	 *
+	 * @param hash current hash, {@link PolyLensConstant#FNV_OFFSET_BASIS} to start a new hash
+	 * @param value string to add
+	 * @return updated hash
+	 */
+	public static long hash(long hash, String value) {
+		if (value == null) {
+			return hash(hash, -1);
+		}
+		hash = hash(hash, value.length());
+		for (int i = 0; i < value.length(); i++) {
+			hash = (hash ^ value.charAt(i)) * PolyLensConstant.FNV_PRIME;
+		}
+		return hash;
+	}
+
+	/**
+	 * Adds an int to a 64-bit FNV-1a hash
+	 *
+	 * @param hash current hash, {@link PolyLensConstant#FNV_OFFSET_BASIS} to start a new hash
+	 * @param value int to add
+	 * @return updated hash
+	 */
+	public static long hash(long hash, int value) {
+		for (int shift = 0; shift < Integer.SIZE; shift += Byte.SIZE) {
+			hash = (hash ^ ((value >>> shift) & 0xff)) * PolyLensConstant.FNV_PRIME;
+		}
+		return hash;
+	}
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.polycom.lens.dto;
+
+/**
+ * Access token retrieved from Poly Lens
+ * ApiToken includes the token and how long it can be used before it has to be retrieved again
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.4
+ */
+public class ApiToken {
+	private String accessToken;
+	private long lifetime;
+
+	/**
+	 * ApiToken instantiation
+	 *
+	 * @param accessToken access token
+	 * @param lifetime time (in milliseconds) the token can be used for
+	 */
+	public ApiToken(String accessToken, long lifetime) {
+		this.accessToken = accessToken;
+		this.lifetime = lifetime;
+	}
+
+	/**
+	 * Retrieves {@link #accessToken}
+	 *
+	 * @return value of {@link #accessToken}
+	 */
+	public String getAccessToken() {
+		return accessToken;
+	}
+
+	/**
+	 * Sets {@link #accessToken} value
+	 *
+	 * @param accessToken new value of {@link #accessToken}
+	 */
+	public void setAccessToken(String accessToken) {
+		this.accessToken = accessToken;
+	}
+
+	/**
+	 * Retrieves {@link #lifetime}
+	 *
+	 * @return value of {@link #lifetime}
+	 */
+	public long getLifetime() {
+		return lifetime;
+	}
+
+	/**
+	 * Sets {@link #lifetime} value
+	 *
+	 * @param lifetime new value of {@link #lifetime}
+	 */
+	public void setLifetime(long lifetime) {
+		this.lifetime = lifetime;
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.polycom.lens.dto;
+
+import java.util.Map;
+
+/**
+ * Result of a bulk reboot
+ * BulkRebootResult includes the number of requested devices, the error of every device that was not rebooted and the duration of the reboot
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.4
+ */
+public class BulkRebootResult {
+	private int requestedDevices;
+	private Map<String, String> failures;
+	private long duration;
+
+	/**
+	 * BulkRebootResult instantiation
+	 *
+	 * @param requestedDevices number of devices requested to reboot
+	 * @param failures error of every device that was not rebooted, by device id
+	 * @param duration duration (in milliseconds) of the bulk reboot
+	 */
+	public BulkRebootResult(int requestedDevices, Map<String, String> failures, long duration) {
+		this.requestedDevices = requestedDevices;
+		this.failures = failures;
+		this.duration = duration;
+	}
+
+	/**
+	 * Retrieves {@link #requestedDevices}
+	 *
+	 * @return value of {@link #requestedDevices}
+	 */
+	public int getRequestedDevices() {
+		return requestedDevices;
+	}
+
+	/**
+	 * Sets {@link #requestedDevices} value
+	 *
+	 * @param requestedDevices new value of {@link #requestedDevices}
+	 */
+	public void setRequestedDevices(int requestedDevices) {
+		this.requestedDevices = requestedDevices;
+	}
+
+	/**
+	 * Retrieves {@link #failures}
+	 *
+	 * @return value of {@link #failures}
+	 */
+	public Map<String, String> getFailures() {
+		return failures;
+	}
+
+	/**
+	 * Sets {@link #failures} value
+	 *
+	 * @param failures new value of {@link #failures}
+	 */
+	public void setFailures(Map<String, String> failures) {
+		this.failures = failures;
+	}
+
+	/**
+	 * Retrieves {@link #duration}
+	 *
+	 * @return value of {@link #duration}
+	 */
+	public long getDuration() {
+		return duration;
+	}
+
+	/**
+	 * Sets {@link #duration} value
+	 *
+	 * @param duration new value of {@link #duration}
+	 */
+	public void setDuration(long duration) {
+		this.duration = duration;
+	}
+
+	/**
+	 * Retrieves the number of rebooted devices
+	 *
+	 * @return number of rebooted devices
+	 */
+	public int getRebootedDevices() {
+		return requestedDevices - failures.size();
+	}
+}
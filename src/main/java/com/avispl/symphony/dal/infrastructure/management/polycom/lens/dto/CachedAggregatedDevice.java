@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.polycom.lens.dto;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.common.CompactPropertyMap;
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.common.PolyLensConstant;
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.common.Util;
+
+/**
+ * Aggregated device as extracted from Poly Lens, before monitoring and controlling properties are populated.
+ * CachedAggregatedDevice carries linked devices and entitlements as typed lists, captured once when the device is extracted.
+ * A content hash tells whether a device extracted again differs from the cached one, an unchanged device is not populated again.
+ * The generation is the number of the last cycle that listed the device, devices not listed by a completed cycle are evicted.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.4
+ */
+public class CachedAggregatedDevice {
+	private final AggregatedDevice device;
+	private List<LinkedDevice> linkedDevices;
+	private List<Entitlement> entitlements;
+	private volatile boolean contentHashed;
+	private volatile long contentHash;
+	private volatile long generation;
+
+	/**
+	 * CachedAggregatedDevice instantiation
+	 *
+	 * @param device aggregated device extracted from Poly Lens
+	 */
+	public CachedAggregatedDevice(AggregatedDevice device) {
+		this.device = device;
+	}
+
+	/**
+	 * Creates a copy of the cached device, the properties are copied so that they can be updated without affecting this device
+	 *
+	 * @return copy of the cached device
+	 */
+	public CachedAggregatedDevice copy() {
+		AggregatedDevice copy = new AggregatedDevice();
+		copy.setDeviceId(device.getDeviceId());
+		copy.setDeviceName(device.getDeviceName());
+		copy.setDeviceModel(device.getDeviceModel());
+		copy.setDeviceOnline(device.getDeviceOnline());
+		copy.setSerialNumber(device.getSerialNumber());
+		copy.setMacAddresses(device.getMacAddresses());
+		copy.setProperties(copyProperties(device.getProperties()));
+		CachedAggregatedDevice cachedCopy = new CachedAggregatedDevice(copy);
+		cachedCopy.setLinkedDevices(linkedDevices);
+		cachedCopy.setEntitlements(entitlements);
+		return cachedCopy;
+	}
+
+	/**
+	 * Copies the properties of a device, compact properties are copied with the same schema
+	 *
+	 * @param properties properties of the device
+	 * @return copy of the properties
+	 */
+	private static Map<String, String> copyProperties(Map<String, String> properties) {
+		if (properties instanceof CompactPropertyMap) {
+			return new CompactPropertyMap(((CompactPropertyMap) properties).getSchema(), properties);
+		}
+		return properties == null ? new HashMap<>() : new HashMap<>(properties);
+	}
+
+	/**
+	 * Retrieves the hash of the content of the device: device fields, properties, linked devices and entitlements.
+	 * The hash is computed on the first call, the device must not be modified afterwards.
+	 *
+	 * @return content hash
+	 */
+	public long getContentHash() {
+		if (!contentHashed) {
+			contentHash = computeContentHash();
+			contentHashed = true;
+		}
+		return contentHash;
+	}
+
+	/**
+	 * Computes the hash of the content of the device, properties are hashed regardless of their order
+	 *
+	 * @return content hash
+	 */
+	private long computeContentHash() {
+		long hash = PolyLensConstant.FNV_OFFSET_BASIS;
+		hash = Util.hash(hash, device.getDeviceId());
+		hash = Util.hash(hash, device.getDeviceName());
+		hash = Util.hash(hash, device.getDeviceModel());
+		hash = Util.hash(hash, device.getDeviceOnline() == null ? -1 : device.getDeviceOnline() ? 1 : 0);
+		hash = Util.hash(hash, device.getSerialNumber());
+		List<String> macAddresses = device.getMacAddresses();
+		hash = Util.hash(hash, macAddresses == null ? -1 : macAddresses.size());
+		if (macAddresses != null) {
+			for (String macAddress : macAddresses) {
+				hash = Util.hash(hash, macAddress);
+			}
+		}
+		Map<String, String> properties = device.getProperties();
+		hash = Util.hash(hash, properties == null ? -1 : properties.size());
+		if (properties != null) {
+			long propertiesHash = 0;
+			for (Map.Entry<String, String> property : properties.entrySet()) {
+				propertiesHash += Util.hash(Util.hash(PolyLensConstant.FNV_OFFSET_BASIS, property.getKey()), property.getValue());
+			}
+			hash = (hash ^ propertiesHash) * PolyLensConstant.FNV_PRIME;
+		}
+		hash = Util.hash(hash, linkedDevices == null ? -1 : linkedDevices.size());
+		if (linkedDevices != null) {
+			for (LinkedDevice linkedDevice : linkedDevices) {
+				hash = Util.hash(hash, linkedDevice.getName());
+				hash = Util.hash(hash, linkedDevice.getMacAddress());
+				hash = Util.hash(hash, linkedDevice.getSoftwareVersion());
+			}
+		}
+		hash = Util.hash(hash, entitlements == null ? -1 : entitlements.size());
+		if (entitlements != null) {
+			for (Entitlement entitlement : entitlements) {
+				hash = Util.hash(hash, entitlement.getDate());
+				hash = Util.hash(hash, entitlement.getEndDate());
+				hash = Util.hash(hash, entitlement.getExpired());
+				hash = Util.hash(hash, entitlement.getLicenseKey());
+				hash = Util.hash(hash, entitlement.getProductSerial());
+			}
+		}
+		return hash;
+	}
+
+	/**
+	 * Retrieves {@link #device}
+	 *
+	 * @return value of {@link #device}
+	 */
+	public AggregatedDevice getDevice() {
+		return device;
+	}
+
+	/**
+	 * Retrieves {@link #generation}
+	 *
+	 * @return value of {@link #generation}
+	 */
+	public long getGeneration() {
+		return generation;
+	}
+
+	/**
+	 * Sets {@link #generation} value
+	 *
+	 * @param generation new value of {@link #generation}
+	 */
+	public void setGeneration(long generation) {
+		this.generation = generation;
+	}
+
+	/**
+	 * Retrieves {@link #linkedDevices}
+	 *
+	 * @return value of {@link #linkedDevices}, null if Poly Lens did not return any connection list
+	 */
+	public List<LinkedDevice> getLinkedDevices() {
+		return linkedDevices;
+	}
+
+	/**
+	 * Sets {@link #linkedDevices} value
+	 *
+	 * @param linkedDevices new value of {@link #linkedDevices}
+	 */
+	public void setLinkedDevices(List<LinkedDevice> linkedDevices) {
+		this.linkedDevices = linkedDevices;
+	}
+
+	/**
+	 * Retrieves {@link #entitlements}
+	 *
+	 * @return value of {@link #entitlements}, null if Poly Lens did not return any entitlement list
+	 */
+	public List<Entitlement> getEntitlements() {
+		return entitlements;
+	}
+
+	/**
+	 * Sets {@link #entitlements} value
+	 *
+	 * @param entitlements new value of {@link #entitlements}
+	 */
+	public void setEntitlements(List<Entitlement> entitlements) {
+		this.entitlements = entitlements;
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.polycom.lens.dto;
+
+import java.util.List;
+
+/**
+ * Cached aggregated devices restored from disk
+ * DeviceCache includes the devices and the timestamp of their last full refresh
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.4
+ */
+public class DeviceCache {
+	private long refreshTimestamp;
+	private List<CachedAggregatedDevice> devices;
+
+	/**
+	 * DeviceCache instantiation
+	 *
+	 * @param refreshTimestamp timestamp of the last full refresh of the devices
+	 * @param devices cached aggregated devices
+	 */
+	public DeviceCache(long refreshTimestamp, List<CachedAggregatedDevice> devices) {
+		this.refreshTimestamp = refreshTimestamp;
+		this.devices = devices;
+	}
+
+	/**
+	 * Retrieves {@link #refreshTimestamp}
+	 *
+	 * @return value of {@link #refreshTimestamp}
+	 */
+	public long getRefreshTimestamp() {
+		return refreshTimestamp;
+	}
+
+	/**
+	 * Sets {@link #refreshTimestamp} value
+	 *
+	 * @param refreshTimestamp new value of {@link #refreshTimestamp}
+	 */
+	public void setRefreshTimestamp(long refreshTimestamp) {
+		this.refreshTimestamp = refreshTimestamp;
+	}
+
+	/**
+	 * Retrieves {@link #devices}
+	 *
+	 * @return value of {@link #devices}
+	 */
+	public List<CachedAggregatedDevice> getDevices() {
+		return devices;
+	}
+
+	/**
+	 * Sets {@link #devices} value
+	 *
+	 * @param devices new value of {@link #devices}
+	 */
+	public void setDevices(List<CachedAggregatedDevice> devices) {
+		this.devices = devices;
+	}
+}
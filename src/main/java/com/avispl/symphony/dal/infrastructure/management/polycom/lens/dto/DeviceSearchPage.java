@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.polycom.lens.dto;
+
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.dto.system.QueryCost;
+
+/**
+ * Paging information of a deviceSearch response
+ * DeviceSearchPage includes nextToken, queryCost and errors, the edges of the page are streamed separately
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.4
+ */
+public class DeviceSearchPage {
+	private boolean found;
+	private String nextToken;
+	private QueryCost queryCost;
+	private String errors;
+
+	/**
+	 * Retrieves {@link #found}
+	 *
+	 * @return true if the response contains a deviceSearch result
+	 */
+	public boolean isFound() {
+		return found;
+	}
+
+	/**
+	 * Sets {@link #found} value
+	 *
+	 * @param found new value of {@link #found}
+	 */
+	public void setFound(boolean found) {
+		this.found = found;
+	}
+
+	/**
+	 * Retrieves {@link #nextToken}
+	 *
+	 * @return value of {@link #nextToken}
+	 */
+	public String getNextToken() {
+		return nextToken;
+	}
+
+	/**
+	 * Sets {@link #nextToken} value
+	 *
+	 * @param nextToken new value of {@link #nextToken}
+	 */
+	public void setNextToken(String nextToken) {
+		this.nextToken = nextToken;
+	}
+
+	/**
+	 * Retrieves {@link #queryCost}
+	 *
+	 * @return value of {@link #queryCost}
+	 */
+	public QueryCost getQueryCost() {
+		return queryCost;
+	}
+
+	/**
+	 * Sets {@link #queryCost} value
+	 *
+	 * @param queryCost new value of {@link #queryCost}
+	 */
+	public void setQueryCost(QueryCost queryCost) {
+		this.queryCost = queryCost;
+	}
+
+	/**
+	 * Retrieves {@link #errors}
+	 *
+	 * @return value of {@link #errors}
+	 */
+	public String getErrors() {
+		return errors;
+	}
+
+	/**
+	 * Sets {@link #errors} value
+	 *
+	 * @param errors new value of {@link #errors}
+	 */
+	public void setErrors(String errors) {
+		this.errors = errors;
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.polycom.lens;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.common.PolyLensAggregatedMetric;
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.dto.CachedAggregatedDevice;
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.dto.Entitlement;
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.dto.LinkedDevice;
+
+/**
+ * Devices shared by the unit tests, fields vary with the index of the device so that a set of devices covers
+ * online, offline and unknown devices, missing fields and null values
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.4
+ */
+public final class PolyLensDeviceFixture {
+
+	private PolyLensDeviceFixture() {
+	}
+
+	/**
+	 * Creates a device node as returned by deviceSearch
+	 *
+	 * @param index index of the device
+	 * @return device node
+	 */
+	public static ObjectNode createDeviceNode(int index) {
+		ObjectNode node = JsonNodeFactory.instance.objectNode();
+		node.put("id", "device-" + index);
+		node.put("name", "Device " + index);
+		node.put("hardwareModel", index % 3 == 0 ? "Studio X30" : "Poly Sync 20");
+		if (index % 4 != 0) {
+			node.put("connected", index % 2 == 0);
+		} else {
+			node.putNull("connected");
+		}
+		node.put("serialNumber", "SN" + index);
+		if (index % 5 != 0) {
+			node.put("macAddress", "00:e0:db:00:00:" + index % 100);
+		}
+		node.put("supportsSettings", true);
+		node.put("supportsSoftwareUpdate", index % 2 == 1);
+		node.put("callStatus", index % 7 == 0 ? "IN_CALL" : "NOT_IN_CALL");
+		node.putArray("tags").add("tag-" + index % 3);
+		node.put("etag", "etag-" + index);
+		node.put("tenantId", "tenant");
+		node.put("softwareVersion", index % 6 == 0 ? "null" : "4.1." + index % 10);
+		node.putNull("softwareBuild");
+		node.put("externalIp", "10.0.0." + index % 255);
+		node.put("provisioningEnabled", false);
+		node.put("lastDetected", "2026-10-17T10:00:00.000Z");
+		node.put("usbVendorId", index);
+		node.put("hasPeripherals", index % 2 == 0);
+		if (index % 3 != 0) {
+			node.putObject("room").put("name", "Room " + index % 10);
+			node.putObject("site").put("name", "Site " + index % 4);
+		} else {
+			node.putNull("room");
+		}
+		ObjectNode model = node.putObject("model");
+		model.put("name", "Model " + index % 5);
+		model.put("description", "Description");
+		model.putObject("hardwareFamily").put("name", "Family");
+		model.putNull("hardwareManufacturer");
+		ObjectNode status = node.putObject("systemStatus").putObject("data").putObject("com").putObject("poly").putObject("device").putObject("status");
+		status.putObject("provisioning").put("state", "OK");
+		status.putObject("ipnetwork").put("state", index % 2 == 0 ? "OK" : "ERROR");
+		status.putObject("camera").putNull("state");
+		ArrayNode connections = node.putArray("connections");
+		connections.addObject().put("name", "Peripheral").put("macAddress", "00:00").put("softwareVersion", "1.0");
+		if (index % 2 == 0) {
+			node.putObject("location").putObject("coordinate").put("latitude", 10.5).put("longitude", index);
+		} else {
+			node.putNull("location");
+		}
+		node.putObject("bandwidth").put("downloadMbps", 100.25).put("uploadMbps", 20).putNull("endTime");
+		node.putArray("entitlements").addObject().put("productName", "Poly+").put("endDate", "2027-01-01");
+		return node;
+	}
+
+	/**
+	 * Creates a cached device as extracted from a deviceSearch page.
+	 * Devices with an even index have a linked device, every device has an entitlement.
+	 *
+	 * @param index index of the device
+	 * @return cached device
+	 */
+	public static CachedAggregatedDevice createCachedDevice(int index) {
+		AggregatedDevice device = new AggregatedDevice();
+		device.setDeviceId("device-" + index);
+		device.setDeviceName("Studio X30 " + index);
+		device.setDeviceModel("Studio X30");
+		device.setDeviceOnline(index % 3 == 0 ? null : index % 3 == 1);
+		device.setSerialNumber(index % 2 == 0 ? null : "8L22" + index);
+		device.setMacAddresses(Arrays.asList("00:e0:db:" + index, null));
+		Map<String, String> properties = new LinkedHashMap<>();
+		properties.put(PolyLensAggregatedMetric.ROOM_NAME.getName(), "Room " + index);
+		properties.put(PolyLensAggregatedMetric.E_TAG.getName(), "etag-" + index);
+		properties.put(PolyLensAggregatedMetric.SITE_NAME.getName(), "Site é " + index);
+		properties.put(PolyLensAggregatedMetric.LAST_DETECTED.getName(), "2026-10-17T10:00:00.000Z");
+		device.setProperties(properties);
+		CachedAggregatedDevice cachedDevice = new CachedAggregatedDevice(device);
+		if (index % 2 == 0) {
+			LinkedDevice linkedDevice = new LinkedDevice();
+			linkedDevice.setName("Poly Eagle Eye " + index);
+			linkedDevice.setSoftwareVersion("1.0." + index);
+			cachedDevice.setLinkedDevices(Collections.singletonList(linkedDevice));
+		}
+		Entitlement entitlement = new Entitlement();
+		entitlement.setProductSerial("SN" + index);
+		entitlement.setEndDate("2027-01-01");
+		cachedDevice.setEntitlements(Collections.singletonList(entitlement));
+		return cachedDevice;
+	}
+}
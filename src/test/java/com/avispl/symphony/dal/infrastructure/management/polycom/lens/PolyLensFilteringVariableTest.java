@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.polycom.lens;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for the filter variables of {@link PolyLensCommunicator}.
+ * Checks that the serialized filter is reused until a filter property changes
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.4
+ */
+@Tag("Mock")
+class PolyLensFilteringVariableTest {
+	private PolyLensCommunicator polyLensCommunicator;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		polyLensCommunicator = new PolyLensCommunicator();
+		polyLensCommunicator.setFilterRoomName("Room 1, Room 2, Not Set");
+		polyLensCommunicator.setFilterSiteName("Site 1, Unknown");
+		polyLensCommunicator.setFilterModelName("Studio X30, Poly Sync 20");
+		polyLensCommunicator.setFilterExcludeRoomName("Room 3");
+	}
+
+	/**
+	 * Test that the filter is built once and reused while the filter properties don't change
+	 */
+	@Test
+	void testFilterIsReused() {
+		byte[] filter = polyLensCommunicator.createVariableForFiltering();
+		Assertions.assertSame(filter, polyLensCommunicator.createVariableForFiltering());
+	}
+
+	/**
+	 * Test that every filter property setter invalidates the filter
+	 */
+	@Test
+	void testFilterIsInvalidated() {
+		byte[] filter = polyLensCommunicator.createVariableForFiltering();
+		polyLensCommunicator.setFilterRoomName("Room 4");
+		byte[] roomFilter = polyLensCommunicator.createVariableForFiltering();
+		Assertions.assertNotSame(filter, roomFilter);
+		Assertions.assertTrue(new String(roomFilter, StandardCharsets.UTF_8).contains("Room 4"));
+
+		polyLensCommunicator.setFilterSiteName("Site 2");
+		byte[] siteFilter = polyLensCommunicator.createVariableForFiltering();
+		Assertions.assertTrue(new String(siteFilter, StandardCharsets.UTF_8).contains("Site 2"));
+
+		polyLensCommunicator.setFilterModelName("Studio X50");
+		byte[] modelFilter = polyLensCommunicator.createVariableForFiltering();
+		Assertions.assertTrue(new String(modelFilter, StandardCharsets.UTF_8).contains("Studio X50"));
+
+		polyLensCommunicator.setFilterExcludeRoomName("Room 5");
+		byte[] excludeRoomFilter = polyLensCommunicator.createVariableForFiltering();
+		Assertions.assertTrue(new String(excludeRoomFilter, StandardCharsets.UTF_8).contains("Room 5"));
+	}
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.polycom.lens.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.dto.ApiToken;
+
+/**
+ * Unit test for {@link ApiTokenManager}.
+ * Checks that concurrent callers share a single token request and that the token is refreshed in the background before it expires.
+ * The clock and the background refresh are driven by the test, nothing depends on timing.
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.4
+ */
+@Tag("Mock")
+class ApiTokenManagerTest {
+	private static final int CONCURRENT_CALLERS = 16;
+	private static final long TOKEN_LIFETIME = 60000L;
+	private final AtomicInteger tokenRequests = new AtomicInteger();
+	private final AtomicLong now = new AtomicLong(1000L);
+	private final ManualScheduler scheduler = new ManualScheduler();
+	private ApiTokenManager apiTokenManager;
+
+	@AfterEach
+	void tearDown() {
+		if (apiTokenManager != null) {
+			apiTokenManager.stop();
+		}
+		scheduler.shutdownNow();
+	}
+
+	/**
+	 * Test that concurrent callers without a token wait for a single token request
+	 */
+	@Test
+	void testConcurrentCallersShareTokenRequest() throws Exception {
+		CountDownLatch callersStarted = new CountDownLatch(CONCURRENT_CALLERS);
+		apiTokenManager = createApiTokenManager(() -> {
+			// the token is only returned once every caller asked for it
+			callersStarted.await(5, TimeUnit.SECONDS);
+			return new ApiToken("token-" + tokenRequests.incrementAndGet(), TOKEN_LIFETIME);
+		});
+		ExecutorService callers = Executors.newFixedThreadPool(CONCURRENT_CALLERS);
+		List<Future<String>> tokens = new ArrayList<>();
+		for (int i = 0; i < CONCURRENT_CALLERS; i++) {
+			tokens.add(callers.submit(() -> {
+				callersStarted.countDown();
+				return apiTokenManager.getToken();
+			}));
+		}
+		for (Future<String> token : tokens) {
+			Assertions.assertEquals("token-1", token.get(10, TimeUnit.SECONDS));
+		}
+		callers.shutdownNow();
+		Assertions.assertEquals(1, tokenRequests.get());
+	}
+
+	/**
+	 * Test that a rejected token is replaced once, callers holding the same rejected token reuse the new one
+	 */
+	@Test
+	void testRejectedTokenIsReplacedOnce() throws Exception {
+		apiTokenManager = createApiTokenManager(() -> new ApiToken("token-" + tokenRequests.incrementAndGet(), TOKEN_LIFETIME));
+		String rejected = apiTokenManager.getToken();
+		Assertions.assertEquals("token-2", apiTokenManager.refresh(rejected));
+		Assertions.assertEquals("token-2", apiTokenManager.refresh(rejected));
+		Assertions.assertEquals(2, tokenRequests.get());
+	}
+
+	/**
+	 * Test that an expired token is replaced inline
+	 */
+	@Test
+	void testExpiredTokenIsReplaced() throws Exception {
+		apiTokenManager = createApiTokenManager(() -> new ApiToken("token-" + tokenRequests.incrementAndGet(), TOKEN_LIFETIME));
+		Assertions.assertEquals("token-1", apiTokenManager.getToken());
+		now.addAndGet(TOKEN_LIFETIME - 1);
+		Assertions.assertEquals("token-1", apiTokenManager.getToken());
+		now.incrementAndGet();
+		Assertions.assertEquals("token-2", apiTokenManager.getToken());
+	}
+
+	/**
+	 * Test that the token is refreshed in the background before it expires, without any caller
+	 */
+	@Test
+	void testTokenIsRefreshedInBackground() throws Exception {
+		apiTokenManager = createApiTokenManager(() -> new ApiToken("token-" + tokenRequests.incrementAndGet(), TOKEN_LIFETIME));
+		apiTokenManager.start();
+		Assertions.assertEquals("token-1", apiTokenManager.getToken());
+		Assertions.assertEquals((long) (TOKEN_LIFETIME * PolyLensConstant.TOKEN_REFRESH_RATIO), scheduler.delay);
+
+		scheduler.runScheduledTask();
+		Assertions.assertEquals(2, tokenRequests.get());
+		Assertions.assertEquals("token-2", apiTokenManager.getCurrentToken());
+	}
+
+	/**
+	 * Test that a failed background refresh keeps the current token and is retried while the token is still valid
+	 */
+	@Test
+	void testFailedBackgroundRefreshIsRetried() throws Exception {
+		apiTokenManager = createApiTokenManager(() -> {
+			if (tokenRequests.incrementAndGet() == 2) {
+				throw new IllegalStateException("Token request failed");
+			}
+			return new ApiToken("token-" + tokenRequests.get(), TOKEN_LIFETIME);
+		});
+		apiTokenManager.start();
+		Assertions.assertEquals("token-1", apiTokenManager.getToken());
+
+		scheduler.runScheduledTask();
+		Assertions.assertEquals("token-1", apiTokenManager.getCurrentToken());
+		Assertions.assertEquals(PolyLensConstant.TOKEN_REFRESH_RETRY_DELAY, scheduler.delay);
+
+		scheduler.runScheduledTask();
+		Assertions.assertEquals("token-3", apiTokenManager.getCurrentToken());
+	}
+
+	/**
+	 * Test that a failed token request is reported to the caller
+	 */
+	@Test
+	void testFailedTokenRequest() {
+		apiTokenManager = createApiTokenManager(() -> {
+			throw new IllegalStateException("Token request failed");
+		});
+		Assertions.assertThrows(IllegalStateException.class, () -> apiTokenManager.getToken());
+		Assertions.assertNull(apiTokenManager.getCurrentToken());
+	}
+
+	/**
+	 * Creates a token manager driven by the test clock and scheduler
+	 *
+	 * @param tokenRequest request of a new access token
+	 * @return token manager
+	 */
+	private ApiTokenManager createApiTokenManager(ApiTokenManager.TokenRequest tokenRequest) {
+		return new ApiTokenManager(tokenRequest, now::get, () -> scheduler);
+	}
+
+	/**
+	 * Scheduler that keeps the last scheduled task until the test runs it
+	 */
+	private static class ManualScheduler extends ScheduledThreadPoolExecutor {
+		private Runnable task;
+		private long delay = -1;
+
+		private ManualScheduler() {
+			super(1);
+		}
+
+		@Override
+		public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+			this.task = command;
+			this.delay = unit.toMillis(delay);
+			// the returned future is only used to cancel the task, it never fires during a test
+			return super.schedule(() -> {
+			}, 1, TimeUnit.DAYS);
+		}
+
+		/**
+		 * Runs the last scheduled task on the calling thread
+		 */
+		private void runScheduledTask() {
+			Runnable scheduledTask = task;
+			task = null;
+			Assertions.assertNotNull(scheduledTask);
+			scheduledTask.run();
+		}
+	}
+}
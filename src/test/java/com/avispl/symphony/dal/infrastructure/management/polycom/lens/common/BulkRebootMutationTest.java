@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.polycom.lens.common;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit test for {@link BulkRebootMutation}.
+ * Checks the aliased mutation document and the per-device results read from the response
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.4
+ */
+@Tag("Mock")
+class BulkRebootMutationTest {
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	/**
+	 * Test that every device gets an aliased rebootDevice field, with its id passed as a variable
+	 */
+	@Test
+	void testBuild() throws Exception {
+		BulkRebootMutation mutation = new BulkRebootMutation(Arrays.asList("device-1", "device \"2\""));
+		JsonNode body = objectMapper.readTree(mutation.build());
+
+		Assertions.assertEquals("mutation RebootDevices($device0: String!, $device1: String!) {"
+						+ " device0: rebootDevice(deviceId: $device0) { success error } device1: rebootDevice(deviceId: $device1) { success error } }",
+				body.get("query").asText());
+		Assertions.assertEquals("device-1", body.get("variables").get("device0").asText());
+		Assertions.assertEquals("device \"2\"", body.get("variables").get("device1").asText());
+	}
+
+	/**
+	 * Test that devices that failed or are missing from the response are reported with their error
+	 */
+	@Test
+	void testReadFailures() throws Exception {
+		BulkRebootMutation mutation = new BulkRebootMutation(Arrays.asList("device-1", "device-2", "device-3"));
+		JsonNode response = objectMapper.readTree("{\"data\":{\"device0\":{\"success\":true,\"error\":null},"
+				+ "\"device1\":{\"success\":false,\"error\":\"Device is offline\"},\"device2\":null},"
+				+ "\"errors\":[{\"message\":\"Device not found\",\"path\":[\"device2\"]}]}");
+		Map<String, String> failures = mutation.readFailures(response);
+
+		Assertions.assertEquals(2, failures.size());
+		Assertions.assertEquals("Device is offline", failures.get("device-2"));
+		Assertions.assertTrue(failures.get("device-3").contains("Device not found"));
+	}
+}
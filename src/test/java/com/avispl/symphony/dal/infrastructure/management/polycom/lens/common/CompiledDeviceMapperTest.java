@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.polycom.lens.common;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.aggregator.parser.AggregatedDeviceProcessor;
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMapping;
+import com.avispl.symphony.dal.aggregator.parser.PropertiesMappingParser;
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.PolyLensDeviceFixture;
+
+/**
+ * Unit test for {@link CompiledDeviceMapper}.
+ * Compares the compiled mapping with {@link AggregatedDeviceProcessor}
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.4
+ */
+@Tag("Mock")
+class CompiledDeviceMapperTest {
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private AggregatedDeviceProcessor aggregatedDeviceProcessor;
+	private CompiledDeviceMapper compiledDeviceMapper;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		Map<String, PropertiesMapping> mapping = new PropertiesMappingParser().loadYML(PolyLensConstant.MODEL_MAPPING_AGGREGATED_DEVICE, getClass());
+		aggregatedDeviceProcessor = new AggregatedDeviceProcessor(mapping);
+		compiledDeviceMapper = new CompiledDeviceMapper(mapping);
+	}
+
+	/**
+	 * Test that the model mapping of Poly Lens is fully compiled
+	 */
+	@Test
+	void testMappingIsCompiled() {
+		Assertions.assertTrue(compiledDeviceMapper.isCompiled());
+	}
+
+	/**
+	 * Test that the compiled mapping produces the same devices as AggregatedDeviceProcessor
+	 */
+	@Test
+	void testCompiledMappingMatchesProcessor() {
+		for (int i = 0; i < 200; i++) {
+			JsonNode node = PolyLensDeviceFixture.createDeviceNode(i);
+			List<AggregatedDevice> expected = aggregatedDeviceProcessor.extractDevices(objectMapper.createArrayNode().add(node));
+			List<AggregatedDevice> actual = compiledDeviceMapper.extractDevices(node);
+			Assertions.assertEquals(expected.size(), actual.size());
+			for (int j = 0; j < expected.size(); j++) {
+				assertSameDevice(expected.get(j), actual.get(j));
+			}
+		}
+	}
+
+	/**
+	 * Test that a missing parent of a get chain resolves to an empty value instead of failing the device
+	 */
+	@Test
+	void testMissingParentNode() {
+		ObjectNode node = PolyLensDeviceFixture.createDeviceNode(1);
+		node.remove("location");
+		List<AggregatedDevice> devices = compiledDeviceMapper.extractDevices(node);
+		Assertions.assertEquals(1, devices.size());
+		Assertions.assertNull(devices.get(0).getProperties().get("LocationLatitude"));
+		Assertions.assertEquals("device-1", devices.get(0).getDeviceId());
+	}
+
+	/**
+	 * Compares two aggregated devices
+	 *
+	 * @param expected device mapped by AggregatedDeviceProcessor
+	 * @param actual device mapped by CompiledDeviceMapper
+	 */
+	private void assertSameDevice(AggregatedDevice expected, AggregatedDevice actual) {
+		Assertions.assertEquals(expected.getDeviceId(), actual.getDeviceId());
+		Assertions.assertEquals(expected.getDeviceName(), actual.getDeviceName());
+		Assertions.assertEquals(expected.getDeviceModel(), actual.getDeviceModel());
+		Assertions.assertEquals(expected.getDeviceOnline(), actual.getDeviceOnline());
+		Assertions.assertEquals(expected.getSerialNumber(), actual.getSerialNumber());
+		Assertions.assertEquals(expected.getMacAddresses(), actual.getMacAddresses());
+		Assertions.assertEquals(expected.getProperties(), actual.getProperties());
+		Assertions.assertEquals(expected.getDynamicStatistics(), actual.getDynamicStatistics());
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.polycom.lens.common;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.PolyLensDeviceFixture;
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.dto.CachedAggregatedDevice;
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.dto.DeviceCache;
+
+/**
+ * Unit test for {@link DeviceCacheStore}.
+ * Checks that cached devices are restored as written, and that files of another key or corrupted files are not restored
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.4
+ */
+@Tag("Mock")
+class DeviceCacheStoreTest {
+	private static final String KEY = "api.silica-prod01.io.lens.poly.com,client,{}";
+	private final PropertySchema propertySchema = new PropertySchema(Collections.emptyList());
+	private Path directory;
+	private DeviceCacheStore deviceCacheStore;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		directory = Files.createTempDirectory("polylens-test");
+		deviceCacheStore = new DeviceCacheStore(directory.resolve("devices.bin"), propertySchema);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		deviceCacheStore.delete();
+		Files.deleteIfExists(directory);
+	}
+
+	/**
+	 * Test that the device cache file is only accessible by its owner
+	 */
+	@Test
+	void testFileIsOwnerOnly() throws Exception {
+		Assumptions.assumeTrue(directory.getFileSystem().supportedFileAttributeViews().contains(PolyLensConstant.POSIX));
+		deviceCacheStore.write(KEY, 123456789L, Collections.singletonList(PolyLensDeviceFixture.createCachedDevice(1)));
+
+		Assertions.assertEquals(PolyLensConstant.DEVICE_CACHE_FILE_PERMISSIONS,
+				PosixFilePermissions.toString(Files.getPosixFilePermissions(directory.resolve("devices.bin"))));
+	}
+
+	/**
+	 * Test that written devices are restored with all their fields
+	 */
+	@Test
+	void testDevicesAreRestored() throws Exception {
+		List<CachedAggregatedDevice> devices = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			devices.add(PolyLensDeviceFixture.createCachedDevice(i));
+		}
+		deviceCacheStore.write(KEY, 123456789L, devices);
+		DeviceCache deviceCache = deviceCacheStore.read(KEY);
+
+		Assertions.assertNotNull(deviceCache);
+		Assertions.assertEquals(123456789L, deviceCache.getRefreshTimestamp());
+		Assertions.assertEquals(devices.size(), deviceCache.getDevices().size());
+		for (int i = 0; i < devices.size(); i++) {
+			AggregatedDevice expected = devices.get(i).getDevice();
+			CachedAggregatedDevice restored = deviceCache.getDevices().get(i);
+			Assertions.assertEquals(expected.getDeviceId(), restored.getDevice().getDeviceId());
+			Assertions.assertEquals(expected.getDeviceName(), restored.getDevice().getDeviceName());
+			Assertions.assertEquals(expected.getDeviceModel(), restored.getDevice().getDeviceModel());
+			Assertions.assertEquals(expected.getDeviceOnline(), restored.getDevice().getDeviceOnline());
+			Assertions.assertEquals(expected.getSerialNumber(), restored.getDevice().getSerialNumber());
+			Assertions.assertEquals(expected.getMacAddresses(), restored.getDevice().getMacAddresses());
+			Assertions.assertEquals(expected.getProperties(), restored.getDevice().getProperties());
+			Assertions.assertEquals(devices.get(i).getLinkedDevices() == null, restored.getLinkedDevices() == null);
+			if (restored.getLinkedDevices() != null) {
+				Assertions.assertEquals("Poly Eagle Eye " + i, restored.getLinkedDevices().get(0).getName());
+				Assertions.assertEquals("1.0." + i, restored.getLinkedDevices().get(0).getSoftwareVersion());
+			}
+			Assertions.assertEquals("SN" + i, restored.getEntitlements().get(0).getProductSerial());
+			Assertions.assertNull(restored.getEntitlements().get(0).getLicenseKey());
+		}
+	}
+
+	/**
+	 * Test that devices written with another key are not restored
+	 */
+	@Test
+	void testOtherKeyIsIgnored() throws Exception {
+		deviceCacheStore.write(KEY, 1L, Collections.singletonList(PolyLensDeviceFixture.createCachedDevice(1)));
+		Assertions.assertNull(deviceCacheStore.read(KEY + ",filter"));
+	}
+
+	/**
+	 * Test that a missing or corrupted file is not restored
+	 */
+	@Test
+	void testCorruptedFileIsNotRestored() throws Exception {
+		Assertions.assertNull(deviceCacheStore.read(KEY));
+		Files.write(deviceCacheStore.getFile(), new byte[] { 1, 2, 3, 4 });
+		Assertions.assertThrows(Exception.class, () -> deviceCacheStore.read(KEY));
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.polycom.lens.dto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.infrastructure.management.polycom.lens.PolyLensDeviceFixture;
+
+/**
+ * Unit test for the content hash of {@link CachedAggregatedDevice}.
+ * Checks that devices with the same content share a hash, and that any change of the content changes the hash
+ *
+ * @author Harry / Symphony Dev Team<br>
+ * Created on 10/17/2026
+ * @since 1.0.4
+ */
+@Tag("Mock")
+class CachedAggregatedDeviceTest {
+
+	/**
+	 * Test that devices with the same content have the same hash, whatever the order of their properties
+	 */
+	@Test
+	void testSameContentSameHash() {
+		CachedAggregatedDevice device = PolyLensDeviceFixture.createCachedDevice(4);
+		CachedAggregatedDevice sameDevice = PolyLensDeviceFixture.createCachedDevice(4);
+		List<Map.Entry<String, String>> entries = new ArrayList<>(sameDevice.getDevice().getProperties().entrySet());
+		Collections.reverse(entries);
+		Map<String, String> reversedProperties = new LinkedHashMap<>();
+		entries.forEach(entry -> reversedProperties.put(entry.getKey(), entry.getValue()));
+		sameDevice.getDevice().setProperties(reversedProperties);
+		Assertions.assertEquals(device.getContentHash(), sameDevice.getContentHash());
+		Assertions.assertEquals(device.getContentHash(), device.copy().getContentHash());
+	}
+
+	/**
+	 * Test that a change of any part of the content changes the hash
+	 */
+	@Test
+	void testChangedContentChangedHash() {
+		long hash = PolyLensDeviceFixture.createCachedDevice(4).getContentHash();
+
+		CachedAggregatedDevice device = PolyLensDeviceFixture.createCachedDevice(4);
+		device.getDevice().getProperties().put("LastDetected", "2026-10-17T10:00:01.000Z");
+		Assertions.assertNotEquals(hash, device.getContentHash());
+
+		device = PolyLensDeviceFixture.createCachedDevice(4);
+		device.getDevice().setDeviceOnline(false);
+		Assertions.assertNotEquals(hash, device.getContentHash());
+
+		device = PolyLensDeviceFixture.createCachedDevice(4);
+		device.getDevice().getProperties().put("RoomName", null);
+		Assertions.assertNotEquals(hash, device.getContentHash());
+
+		device = PolyLensDeviceFixture.createCachedDevice(4);
+		device.getLinkedDevices().get(0).setSoftwareVersion("1.0.1");
+		Assertions.assertNotEquals(hash, device.getContentHash());
+
+		device = PolyLensDeviceFixture.createCachedDevice(4);
+		device.setEntitlements(null);
+		Assertions.assertNotEquals(hash, device.getContentHash());
+
+		device = PolyLensDeviceFixture.createCachedDevice(4);
+		device.getDevice().setMacAddresses(Arrays.asList("00:e0:db", ":4"));
+		Assertions.assertNotEquals(hash, device.getContentHash());
+	}
+}